@@ -2,17 +2,22 @@ package com.ureka.techpost.domain.comment.controller;
 
 
 import com.ureka.techpost.domain.auth.dto.CustomUserDetails;
+import com.ureka.techpost.domain.comment.dto.CommentCursorResponseDTO;
 import com.ureka.techpost.domain.comment.dto.CommentRequestDTO;
 import com.ureka.techpost.domain.comment.dto.CommentResponseDTO;
 import com.ureka.techpost.domain.comment.service.CommentService;
+import com.ureka.techpost.domain.comment.service.CommentStreamService;
 import com.ureka.techpost.global.apiPayload.ApiResponse;
 import com.ureka.techpost.global.apiPayload.code.SuccessStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -29,7 +34,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CommentController {
 
+    private static final int MAX_CURSOR_SIZE = 50;
+
     private final CommentService commentService;
+    private final CommentStreamService commentStreamService;
 
     @Operation(summary = "댓글 작성", description = "특정 게시글(postId)에 새로운 댓글을 작성합니다.")
     @PostMapping("/posts/{postId}/comments")
@@ -51,6 +59,27 @@ public class CommentController {
         return ApiResponse.onSuccess(commentResponseList);
     }
 
+    @Operation(summary = "댓글 목록 커서 조회", description = "cursor 파라미터가 있으면 오래된 댓글부터 커서 기반으로 조회합니다. 첫 페이지는 빈 cursor 로 요청하고, 이후에는 응답의 nextCursor 를 전달합니다.")
+    @GetMapping(value = "/posts/{postId}/comments", params = "cursor")
+    public ApiResponse<CommentCursorResponseDTO> getCommentsByCursor(@Parameter(description = "조회할 게시글의 ID") @PathVariable Long postId,
+                                                                     @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)") @RequestParam(required = false) String cursor,
+                                                                     @Parameter(description = "조회할 개수 (최대 50)") @RequestParam(defaultValue = "20") int size){
+
+        return ApiResponse.onSuccess(commentService.findByPostIdAndCursor(postId, cursor, Math.min(Math.max(size, 1), MAX_CURSOR_SIZE)));
+    }
+
+    @Operation(summary = "댓글 실시간 구독", description = "특정 게시글(postId)의 댓글 작성/수정/삭제를 Server-Sent Events 로 받습니다. 이벤트 이름은 created, updated, deleted 입니다. " +
+            "인증은 Authorization: Bearer 헤더로만 하므로, 헤더를 보낼 수 없는 브라우저 EventSource 대신 fetch 기반 SSE 클라이언트(예: @microsoft/fetch-event-source)를 사용해야 합니다.")
+    @GetMapping(value = "/posts/{postId}/comments/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(@Parameter(description = "구독할 게시글의 ID") @PathVariable Long postId,
+                                     HttpServletResponse response){
+
+        // Nginx 등 프록시가 이벤트를 버퍼링하지 않도록
+        response.setHeader("X-Accel-Buffering", "no");
+
+        return commentStreamService.subscribe(postId);
+    }
+
     @Operation(summary = "댓글 삭제", description = "댓글 ID를 이용하여 본인이 작성한 댓글을 삭제합니다.")
     @DeleteMapping("/comments/{commentId}")
     public ApiResponse<Void> deleteComment(@Parameter(description = "삭제할 댓글의 ID") @PathVariable Long commentId,
@@ -0,0 +1,28 @@
+package com.ureka.techpost.domain.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * @file CommentCursorResponseDTO.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 커서 기반 댓글 목록 조회 시 댓글 목록과 다음 커서를 담아 반환하는 DTO 클래스입니다. (첫 페이지는 Redis 에 캐싱)
+ */
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentCursorResponseDTO {
+    // 캐시 역직렬화를 위해 ArrayList 로 담음 (List.of / toList() 결과는 타입 정보로 복원 불가)
+    private List<CommentResponseDTO> comments;
+    // 다음 페이지 요청 시 cursor 파라미터로 그대로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+    private boolean hasNext;
+}
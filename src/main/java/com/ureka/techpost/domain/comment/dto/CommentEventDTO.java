@@ -0,0 +1,32 @@
+package com.ureka.techpost.domain.comment.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * @file CommentEventDTO.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 댓글 작성/수정/삭제를 인스턴스 간(Redis pub/sub)에 전달하고 SSE 로 클라이언트에 내려주는 이벤트 DTO 클래스입니다.
+ */
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CommentEventDTO {
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+
+    // created / updated / deleted (SSE 이벤트 이름으로 사용)
+    private String type;
+    private Long postId;
+    private Long commentId;
+    // 삭제 이벤트는 null
+    private CommentResponseDTO comment;
+}
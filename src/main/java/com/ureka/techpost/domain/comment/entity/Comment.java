@@ -18,7 +18,10 @@ import lombok.NoArgsConstructor;
  */
 
 @Entity
-@Table(name = "Comment")
+@Table(name = "Comment", indexes = {
+        // 게시글별 댓글 커서 조회 (post_id 조건 + id 순서)
+        @Index(name = "idx_comment_post_id", columnList = "post_id, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment extends BaseEntity {
@@ -1,11 +1,15 @@
 package com.ureka.techpost.domain.comment.repository;
 
 
+import com.ureka.techpost.domain.comment.dto.CommentResponseDTO;
 import com.ureka.techpost.domain.comment.entity.Comment;
+import com.ureka.techpost.domain.post.dto.PostCountDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -17,8 +21,18 @@ import java.util.List;
  */
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-    @Query("select c from Comment c join fetch c.user where c.post.id = :postId")
+    @Query("select c from Comment c join fetch c.user where c.post.id = :postId order by c.id")
     List<Comment> findAllByPostId(@Param("postId") Long postId);
 
+    // lastId 이후 댓글을 ID 순으로 조회, 엔티티 대신 필요한 컬럼만 DTO 로 읽음 (idx_comment_post_id 사용)
+    @Query("select new com.ureka.techpost.domain.comment.dto.CommentResponseDTO(c.id, u.userId, u.name, c.content) " +
+            "from Comment c join c.user u where c.post.id = :postId and c.id > :lastId order by c.id")
+    List<CommentResponseDTO> findPageByPostId(@Param("postId") Long postId, @Param("lastId") Long lastId, Pageable pageable);
+
     Long countByPostId(Long postId);
+
+    // 여러 게시글의 댓글 수를 한 번의 쿼리로 집계 (댓글이 없는 게시글은 결과에 포함되지 않음)
+    @Query("select new com.ureka.techpost.domain.post.dto.PostCountDTO(c.post.id, count(c)) " +
+            "from Comment c where c.post.id in :postIds group by c.post.id")
+    List<PostCountDTO> countGroupByPostIds(@Param("postIds") Collection<Long> postIds);
 }
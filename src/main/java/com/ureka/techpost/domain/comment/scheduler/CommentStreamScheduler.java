@@ -0,0 +1,32 @@
+package com.ureka.techpost.domain.comment.scheduler;
+
+import com.ureka.techpost.domain.comment.service.CommentStreamService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * @file CommentStreamScheduler.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 댓글 SSE 연결에 주기적으로 heartbeat 를 보내 유휴 연결이 끊기지 않게 하고 끊긴 연결을 정리하는 스케쥴러 클래스입니다.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentStreamScheduler {
+
+    private final CommentStreamService commentStreamService;
+
+    @Scheduled(fixedDelayString = "${comments.stream.heartbeat-interval-ms:25000}")
+    public void sendHeartbeat() {
+        try {
+            commentStreamService.heartbeat();
+        } catch (Exception e) {
+            log.error("댓글 스트림 heartbeat 실패", e);
+        }
+    }
+}
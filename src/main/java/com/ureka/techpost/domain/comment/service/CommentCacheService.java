@@ -0,0 +1,85 @@
+package com.ureka.techpost.domain.comment.service;
+
+import com.ureka.techpost.domain.comment.dto.CommentCursorResponseDTO;
+import com.ureka.techpost.domain.comment.dto.CommentResponseDTO;
+import com.ureka.techpost.domain.comment.repository.CommentRepository;
+import com.ureka.techpost.global.config.cache.RedisKeyLayout;
+import com.ureka.techpost.global.utils.CursorUtil;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @file CommentCacheService.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 게시글별 댓글을 ID 순 커서 페이지로 조회하고, 게시글 상세 진입 시마다 읽히는 첫 페이지를 Redis 에 캐싱하는 서비스 클래스입니다.
+ */
+
+@Service
+@RequiredArgsConstructor
+public class CommentCacheService {
+
+    // 첫 페이지 크기 (이 크기로 요청한 첫 페이지만 캐싱)
+    public static final int FIRST_PAGE_SIZE = 20;
+    private static final String CACHE_FIRST_PAGE = "commentsFirstPage";
+    private static final String GENERATION_PREFIX = "commentsFirstPageGeneration::";
+    // 첫 페이지 캐시 TTL(10분) 보다 충분히 길게 (세대 키가 먼저 사라져 0 으로 돌아가도 그 세대의 옛 페이지는 이미 만료된 뒤)
+    private static final Duration GENERATION_TTL = Duration.ofDays(1);
+
+    private final CommentRepository commentRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 키는 게시글 해시 태그 + 세대 (게시글 상세/카운터 키와 같은 클러스터 슬롯)
+     * 세대는 DB 조회 전에 키를 만들 때 읽으므로, 커밋 전에 조회를 시작한 요청이 늦게 캐시에 넣더라도
+     * 커밋 후 세대가 올라간 뒤라 아무도 읽지 않는 옛 세대 키에 들어감 (그대로 TTL 로 만료)
+     */
+    @Cacheable(value = CACHE_FIRST_PAGE,
+            key = "T(com.ureka.techpost.global.config.cache.RedisKeyLayout).postTag(#postId) + ':' + @commentCacheService.firstPageGeneration(#postId)",
+            sync = true)
+    public CommentCursorResponseDTO getFirstPage(Long postId) {
+        return loadPage(postId, null, FIRST_PAGE_SIZE);
+    }
+
+    /**
+     * lastId 이후 댓글을 ID 오름차순으로 size 개 조회
+     * 다음 페이지 존재 여부는 size + 1 개를 조회해서 판단 (count 쿼리 없음)
+     */
+    public CommentCursorResponseDTO loadPage(Long postId, Long lastId, int size) {
+        List<CommentResponseDTO> comments = new ArrayList<>(commentRepository.findPageByPostId(
+                postId, lastId == null ? 0L : lastId, PageRequest.of(0, size + 1)));
+
+        boolean hasNext = comments.size() > size;
+        if (hasNext) {
+            comments = new ArrayList<>(comments.subList(0, size));
+        }
+
+        String nextCursor = hasNext ? CursorUtil.encode(comments.get(comments.size() - 1).getId()) : null;
+        return new CommentCursorResponseDTO(comments, nextCursor, hasNext);
+    }
+
+    // 첫 페이지 캐시 키에 붙는 게시글별 세대 (캐시 키 SpEL 에서 호출)
+    public String firstPageGeneration(Long postId) {
+        String generation = stringRedisTemplate.opsForValue().get(generationKey(postId));
+        return generation == null ? "0" : generation;
+    }
+
+    // 댓글 작성/수정/삭제 커밋 후 호출 - 지우는 대신 세대를 올려 이후 조회가 새 키를 쓰게 함
+    public void evictFirstPage(Long postId) {
+        String key = generationKey(postId);
+        stringRedisTemplate.opsForValue().increment(key);
+        stringRedisTemplate.expire(key, GENERATION_TTL);
+    }
+
+    private static String generationKey(Long postId) {
+        return GENERATION_PREFIX + RedisKeyLayout.postTag(postId);
+    }
+}
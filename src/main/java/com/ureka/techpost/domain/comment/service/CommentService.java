@@ -2,21 +2,26 @@ package com.ureka.techpost.domain.comment.service;
 
 
 import com.ureka.techpost.domain.auth.dto.CustomUserDetails;
+import com.ureka.techpost.domain.comment.dto.CommentCursorResponseDTO;
+import com.ureka.techpost.domain.comment.dto.CommentEventDTO;
 import com.ureka.techpost.domain.comment.dto.CommentRequestDTO;
 import com.ureka.techpost.domain.comment.dto.CommentResponseDTO;
 import com.ureka.techpost.domain.comment.entity.Comment;
 import com.ureka.techpost.domain.comment.repository.CommentRepository;
-import com.ureka.techpost.domain.post.entity.Post;
 import com.ureka.techpost.domain.post.repository.PostRepository;
+import com.ureka.techpost.domain.post.service.PostExistenceService;
 import com.ureka.techpost.domain.post.service.PostRedisService;
-import com.ureka.techpost.domain.user.entity.User;
 import com.ureka.techpost.domain.user.repository.UserRepository;
 import com.ureka.techpost.global.exception.CustomException;
 import com.ureka.techpost.global.exception.ErrorCode;
+import com.ureka.techpost.global.utils.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -37,33 +42,60 @@ public class CommentService {
     private final UserRepository userRepository;
     private final PostRepository postRepository;
     private final PostRedisService postRedisService;
+    private final PostExistenceService postExistenceService;
+    private final CommentCacheService commentCacheService;
+    private final CommentStreamService commentStreamService;
 
     @Transactional
     public void createComment(CommentRequestDTO commentRequestDTO, CustomUserDetails userDetails, Long postId){
 
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
-
-        User user = userRepository.findByUsername(userDetails.getUsername())
-                        .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        // 존재 여부는 게시글 캐시로 확인하고, 게시글/사용자는 조회 없이 FK 용 참조(프록시)만 사용
+        postExistenceService.validateExists(postId);
 
         Comment comment = Comment.builder()
-                .user(user)
-                .post(post)
+                .user(userRepository.getReferenceById(userDetails.getUser().getUserId()))
+                .post(postRepository.getReferenceById(postId))
                 .content(commentRequestDTO.getContent())
                 .build();
 
-        commentRepository.save(comment);
+        try {
+            commentRepository.save(comment);
+        } catch (DataIntegrityViolationException e) {
+            // 캐시 확인 이후 삭제된 게시글 (post_id 외래 키 위반만, 그 외 무결성 오류는 그대로 전달)
+            if (isPostForeignKeyViolation(e)) {
+                throw new CustomException(ErrorCode.POST_NOT_FOUND);
+            }
+            throw e;
+        }
         // 게시글 표시용
         postRedisService.incrementCommentCount(postId);
+        afterCommit(() -> {
+            commentCacheService.evictFirstPage(postId);
+            commentStreamService.publish(new CommentEventDTO(CommentEventDTO.CREATED, postId, comment.getId(),
+                    toResponse(comment, userDetails)));
+        });
+    }
+
+    /**
+     * 커서 기반 댓글 목록 조회 (ID 오름차순)
+     * 기본 크기의 첫 페이지는 Redis 캐시에서 응답하고, 이후 페이지만 DB 조회
+     * 캐시 히트 시 DB 커넥션을 쓰지 않도록 트랜잭션 없이 실행
+     */
+    public CommentCursorResponseDTO findByPostIdAndCursor(Long postId, String cursor, int size) {
+
+        postExistenceService.validateExists(postId);
+        Long lastId = CursorUtil.decode(cursor);
+
+        if (lastId == null && size == CommentCacheService.FIRST_PAGE_SIZE) {
+            return commentCacheService.getFirstPage(postId);
+        }
+        return commentCacheService.loadPage(postId, lastId, size);
     }
 
     @Transactional(readOnly = true)
     public List<CommentResponseDTO> findByPostId(Long postId) {
 
-        if(!postRepository.existsById(postId)){
-            throw new CustomException(ErrorCode.POST_NOT_FOUND);
-        }
+        postExistenceService.validateExists(postId);
 
         return commentRepository.findAllByPostId(postId).stream()
                 .map(comment -> new CommentResponseDTO(
@@ -78,29 +110,31 @@ public class CommentService {
     @Transactional
     public void patchComment(Long commentId, CustomUserDetails userDetails, CommentRequestDTO commentRequestDTO) {
 
-        User user = userRepository.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
 
-        if(!comment.getUser().getUserId().equals(user.getUserId())){
+        // 작성자 비교는 FK 값만 사용 (지연 로딩 프록시의 ID 조회는 쿼리를 발생시키지 않음)
+        if(!comment.getUser().getUserId().equals(userDetails.getUser().getUserId())){
             throw new CustomException(ErrorCode.USER_NOT_MATCH);
         }
 
         comment.updateContent(commentRequestDTO.getContent());
+
+        Long postId = comment.getPost().getId();
+        afterCommit(() -> {
+            commentCacheService.evictFirstPage(postId);
+            commentStreamService.publish(new CommentEventDTO(CommentEventDTO.UPDATED, postId, comment.getId(),
+                    toResponse(comment, userDetails)));
+        });
     }
 
     @Transactional
     public void deleteComment(Long commentId, CustomUserDetails userDetails) {
 
-        User user = userRepository.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
         Comment comment = commentRepository.findById(commentId)
                 .orElseThrow(() -> new CustomException(ErrorCode.COMMENT_NOT_FOUND));
 
-        if(!comment.getUser().getUserId().equals(user.getUserId())){
+        if(!comment.getUser().getUserId().equals(userDetails.getUser().getUserId())){
             throw new CustomException(ErrorCode.USER_NOT_MATCH);
         }
 
@@ -109,5 +143,31 @@ public class CommentService {
         commentRepository.delete(comment);
         // 게시글 표시용
         postRedisService.decrementCommentCount(postId);
+        afterCommit(() -> {
+            commentCacheService.evictFirstPage(postId);
+            commentStreamService.publish(new CommentEventDTO(CommentEventDTO.DELETED, postId, commentId, null));
+        });
+    }
+
+    // 작성자는 본인이므로 작성자 정보는 인증 사용자에서 가져옴 (지연 로딩 프록시를 초기화하지 않음)
+    private CommentResponseDTO toResponse(Comment comment, CustomUserDetails userDetails) {
+        return new CommentResponseDTO(comment.getId(), userDetails.getUser().getUserId(),
+                userDetails.getUser().getName(), comment.getContent());
+    }
+
+    // 커밋 전에 캐시를 지우면 그 사이 다른 요청이 이전 목록을 다시 캐싱할 수 있으므로 커밋 후 실행
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    // MySQL 외래 키 오류 메시지: "... a foreign key constraint fails (... FOREIGN KEY (`post_id`) REFERENCES `post` ...)"
+    private boolean isPostForeignKeyViolation(DataIntegrityViolationException e) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase();
+        return message.contains("foreign key constraint") && message.contains("`post_id`");
     }
 }
@@ -0,0 +1,203 @@
+package com.ureka.techpost.domain.comment.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ureka.techpost.domain.comment.dto.CommentEventDTO;
+import com.ureka.techpost.domain.post.service.PostExistenceService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @file CommentStreamService.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 게시글별 댓글 변경을 SSE 로 실시간 전달하는 서비스 클래스입니다. 인스턴스별 구독 목록을 두고, 인스턴스 간에는 Redis pub/sub 으로 이벤트를 전파합니다.
+ * 인증은 Authorization 헤더로만 하므로 헤더를 보낼 수 없는 브라우저 EventSource 대신 fetch 기반 SSE 클라이언트를 사용해야 합니다.
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CommentStreamService {
+
+    static final String CHANNEL = "commentEvents";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ObjectMapper objectMapper;
+    private final PostExistenceService postExistenceService;
+    private final MeterRegistry meterRegistry;
+
+    // 연결 유지 시간 (만료되면 클라이언트가 재연결)
+    @Value("${comments.stream.timeout:30m}")
+    private Duration timeout;
+
+    // 구독자별 전송 대기 최대 개수 (넘으면 느린 클라이언트로 보고 연결 종료, 재연결 시 목록을 다시 조회)
+    @Value("${comments.stream.max-pending:100}")
+    private int maxPending;
+
+    // postId -> 이 인스턴스에 연결된 구독자
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger connections = new AtomicInteger();
+    // 느린 클라이언트에 쓰는 동안 pub/sub 수신 스레드가 막히지 않도록 전송은 가상 스레드에서
+    private final ExecutorService sender = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PostConstruct
+    public void start() {
+        redisMessageListenerContainer.addMessageListener(
+                (message, pattern) -> onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+        meterRegistry.gauge("comments.stream.connections", connections);
+    }
+
+    @PreDestroy
+    public void stop() {
+        subscribers.values().forEach(postSubscribers -> postSubscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        sender.shutdown();
+    }
+
+    /**
+     * 게시글 댓글 스트림 구독
+     * 비동기 서블릿으로 응답을 열어두므로 대기 중인 연결은 요청 스레드를 점유하지 않음
+     */
+    public SseEmitter subscribe(Long postId) {
+        postExistenceService.validateExists(postId);
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(postId, emitter);
+        subscribers.computeIfAbsent(postId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        connections.incrementAndGet();
+
+        Runnable remove = () -> unsubscribe(subscriber);
+        emitter.onCompletion(remove);
+        emitter.onTimeout(remove);
+        emitter.onError(e -> remove.run());
+
+        // 프록시가 응답 헤더를 바로 내려보내도록 첫 이벤트 전송
+        subscriber.enqueue(SseEmitter.event().name("connected").data(postId));
+        return emitter;
+    }
+
+    // 커밋 후 호출, 발행 실패 시에도 댓글 쓰기는 실패시키지 않음 (클라이언트는 재연결 시 목록을 다시 조회)
+    public void publish(CommentEventDTO event) {
+        try {
+            stringRedisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(event));
+        } catch (Exception e) {
+            log.warn("댓글 이벤트 발행 실패 - postId: {}, type: {}", event.getPostId(), event.getType(), e);
+        }
+    }
+
+    // 프록시/로드밸런서의 유휴 연결 종료 방지 및 끊긴 연결 정리
+    public void heartbeat() {
+        subscribers.values().forEach(postSubscribers ->
+                postSubscribers.forEach(subscriber -> subscriber.enqueue(SseEmitter.event().comment("ping"))));
+    }
+
+    // 발행한 인스턴스를 포함한 모든 인스턴스가 수신, 구독자가 있는 게시글만 전달
+    private void onMessage(String message) {
+        CommentEventDTO event;
+        try {
+            event = objectMapper.readValue(message, CommentEventDTO.class);
+        } catch (Exception e) {
+            log.warn("잘못된 댓글 이벤트 - {}", message);
+            return;
+        }
+
+        Set<Subscriber> postSubscribers = subscribers.get(event.getPostId());
+        if (postSubscribers == null) {
+            return;
+        }
+
+        postSubscribers.forEach(subscriber -> subscriber.enqueue(
+                SseEmitter.event().name(event.getType()).id(String.valueOf(event.getCommentId())).data(event)));
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.postId, (id, postSubscribers) -> {
+            if (postSubscribers.remove(subscriber)) {
+                connections.decrementAndGet();
+            }
+            return postSubscribers.isEmpty() ? null : postSubscribers;
+        });
+    }
+
+    /**
+     * 구독자 한 명의 전송 순서를 보장하는 대기열
+     * 이벤트마다 가상 스레드를 띄우면 같은 구독자에게 동시에 전송되어 순서가 바뀔 수 있으므로,
+     * 구독자별로 한 번에 하나의 가상 스레드만 대기열을 비우며 순서대로 전송
+     */
+    private final class Subscriber {
+        private final Long postId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(Long postId, SseEmitter emitter) {
+            this.postId = postId;
+            this.emitter = emitter;
+        }
+
+        private void enqueue(SseEmitter.SseEventBuilder event) {
+            if (pendingCount.incrementAndGet() > maxPending) {
+                close(new IllegalStateException("전송 대기 이벤트 초과"));
+                return;
+            }
+            pending.add(event);
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            SseEmitter.SseEventBuilder event;
+            while ((event = pending.poll()) != null) {
+                pendingCount.decrementAndGet();
+                try {
+                    emitter.send(event);
+                } catch (Exception e) {
+                    // 클라이언트가 끊은 연결
+                    close(e);
+                    return;
+                }
+            }
+            draining.set(false);
+
+            // 비우는 것을 마친 직후 추가된 이벤트가 있으면 다시 전송
+            if (!pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void close(Exception cause) {
+            unsubscribe(this);
+            pending.clear();
+            emitter.completeWithError(cause);
+        }
+    }
+}
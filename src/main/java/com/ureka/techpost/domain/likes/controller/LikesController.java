@@ -1,6 +1,7 @@
 package com.ureka.techpost.domain.likes.controller;
 
 import com.ureka.techpost.domain.auth.dto.CustomUserDetails;
+import com.ureka.techpost.domain.likes.service.LikeIngestService;
 import com.ureka.techpost.domain.likes.service.LikesService;
 import com.ureka.techpost.global.apiPayload.ApiResponse;
 import com.ureka.techpost.global.apiPayload.code.SuccessStatus;
@@ -16,12 +17,18 @@ import org.springframework.web.bind.annotation.RestController;
 public class LikesController {
 
     private final LikesService likesService;
+    // 비동기 모드: DB 트랜잭션(커넥션) 없이 Redis 반영 후 응답
+    private final LikeIngestService likeIngestService;
 
     @PostMapping("/posts/{postId}/likes")
     public ApiResponse<Void> addLike(@PathVariable Long postId,
                                        @AuthenticationPrincipal CustomUserDetails userDetails){
 
-        likesService.createLike(postId, userDetails);
+        if (likeIngestService.isEnabled()) {
+            likeIngestService.createLike(postId, userDetails);
+        } else {
+            likesService.createLike(postId, userDetails);
+        }
 
         return ApiResponse.of(SuccessStatus._CREATED, null);
     }
@@ -30,7 +37,11 @@ public class LikesController {
     public ApiResponse<Void> deleteLike(@PathVariable Long postId,
                                              @AuthenticationPrincipal CustomUserDetails userDetails){
 
-        likesService.deleteLike(postId, userDetails);
+        if (likeIngestService.isEnabled()) {
+            likeIngestService.deleteLike(postId, userDetails);
+        } else {
+            likesService.deleteLike(postId, userDetails);
+        }
 
         return ApiResponse.of(SuccessStatus._NO_CONTENT, null);
     }
@@ -0,0 +1,38 @@
+package com.ureka.techpost.domain.likes.dto;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @file LikeEvent.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 비동기 좋아요 반영 큐에 쌓이는 좋아요/취소 이벤트와, 한 배치 안의 이벤트를 사용자-게시글 쌍별 최종 상태로 합치는 로직을 담은 DTO 입니다.
+ */
+
+public record LikeEvent(Long userId, Long postId, boolean like) {
+
+    /**
+     * 같은 사용자-게시글 쌍의 이벤트를 순서대로 합쳐 DB 에 반영할 최종 이벤트만 남김
+     * Redis 토글은 상태가 실제로 바뀔 때만 이벤트를 만들므로 한 쌍의 이벤트는 좋아요/취소가 번갈아 나옴
+     * 첫 이벤트와 마지막 이벤트가 다르면(좋아요 후 취소 등) 배치 이전 상태로 돌아온 것이므로 제거
+     */
+    public static List<LikeEvent> coalesce(List<LikeEvent> events) {
+        Map<List<Long>, LikeEvent[]> firstAndLast = new LinkedHashMap<>();
+        for (LikeEvent event : events) {
+            firstAndLast.compute(List.of(event.userId(), event.postId()), (key, pair) ->
+                    pair == null ? new LikeEvent[]{event, event} : new LikeEvent[]{pair[0], event});
+        }
+
+        List<LikeEvent> result = new ArrayList<>();
+        firstAndLast.values().forEach(pair -> {
+            if (pair[0].like() == pair[1].like()) {
+                result.add(pair[1]);
+            }
+        });
+        return result;
+    }
+}
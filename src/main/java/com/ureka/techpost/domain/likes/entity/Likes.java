@@ -10,7 +10,10 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "likes")
+@Table(name = "likes", uniqueConstraints = {
+        // 같은 사용자가 같은 게시글에 중복으로 좋아요하지 못하도록 DB 에서 보장 (INSERT IGNORE 의 기준)
+        @UniqueConstraint(name = "uk_likes_user_post", columnNames = {"user_id", "post_id"})
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Likes extends BaseEntity {
@@ -2,16 +2,39 @@ package com.ureka.techpost.domain.likes.repository;
 
 
 import com.ureka.techpost.domain.likes.entity.Likes;
-import com.ureka.techpost.domain.post.entity.Post;
-import com.ureka.techpost.domain.user.entity.User;
+import com.ureka.techpost.domain.post.dto.PostCountDTO;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
 
 public interface LikesRepository extends JpaRepository<Likes, Long> {
-    boolean existsByUserAndPost(User user, Post post);
-    boolean existsByUserUserIdAndPostId(Long userId, Long postId);
-    Optional<Likes> findByUserAndPost(User user, Post post);
-
     Long countByPostId(Long postId);
+
+    // 없을 때만 추가 (uk_likes_user_post 중복이면 0 반환), 조회 후 저장하지 않고 한 문장으로 처리
+    @Modifying
+    @Query(value = "insert ignore into likes (user_id, post_id, created_at, updated_at) " +
+            "values (:userId, :postId, now(6), now(6))", nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    // 실제로 삭제된 행 수 반환 (좋아요하지 않은 상태면 0)
+    @Modifying
+    @Query("delete from Likes l where l.user.userId = :userId and l.post.id = :postId")
+    int deleteByUserIdAndPostId(@Param("userId") Long userId, @Param("postId") Long postId);
+
+    // 게시글에 좋아요한 사용자 ID 목록
+    @Query("select l.user.userId from Likes l where l.post.id = :postId")
+    List<Long> findUserIdsByPostId(@Param("postId") Long postId);
+
+    // 사용자가 좋아요한 게시글 ID 목록
+    @Query("select l.post.id from Likes l where l.user.userId = :userId")
+    List<Long> findPostIdsByUserId(@Param("userId") Long userId);
+
+    // 여러 게시글의 좋아요 수를 한 번의 쿼리로 집계 (좋아요가 없는 게시글은 결과에 포함되지 않음)
+    @Query("select new com.ureka.techpost.domain.post.dto.PostCountDTO(l.post.id, count(l)) " +
+            "from Likes l where l.post.id in :postIds group by l.post.id")
+    List<PostCountDTO> countGroupByPostIds(@Param("postIds") Collection<Long> postIds);
 }
@@ -0,0 +1,33 @@
+package com.ureka.techpost.domain.likes.scheduler;
+
+import com.ureka.techpost.domain.likes.service.LikeIngestService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * @file LikeIngestScheduler.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description Redis Stream 에 쌓인 좋아요/취소 이벤트를 주기적으로 likes 테이블에 반영하는 스케쥴러 클래스입니다.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeIngestScheduler {
+
+    private final LikeIngestService likeIngestService;
+
+    @Scheduled(fixedDelayString = "${likes.ingest.interval-ms:200}")
+    public void ingestLikes() {
+        // 비동기 모드를 끈 뒤에도 남은 이벤트는 마저 반영
+        try {
+            likeIngestService.drain();
+        } catch (Exception e) {
+            log.error("좋아요 이벤트 DB 반영 실패", e);
+        }
+    }
+}
@@ -0,0 +1,374 @@
+package com.ureka.techpost.domain.likes.service;
+
+import com.ureka.techpost.domain.auth.dto.CustomUserDetails;
+import com.ureka.techpost.domain.likes.dto.LikeEvent;
+import com.ureka.techpost.domain.likes.repository.LikesRepository;
+import com.ureka.techpost.domain.post.service.PostExistenceService;
+import com.ureka.techpost.domain.post.service.PostRedisService;
+import com.ureka.techpost.global.exception.CustomException;
+import com.ureka.techpost.global.exception.ErrorCode;
+import com.ureka.techpost.global.utils.RedisLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.Limit;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamInfo;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * @file LikeIngestService.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 좋아요/취소를 Redis 토글 후 바로 응답하고, 이벤트를 Redis Stream 에 쌓아 likes 테이블에 JDBC 배치로 반영하는 비동기 좋아요 서비스 클래스입니다.
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LikeIngestService {
+
+    // 인스턴스가 재시작되어도 남아있도록 Redis Stream 에 저장 (반영 후 ACK + 삭제)
+    static final String STREAM_KEY = "likeEvents";
+    private static final String GROUP = "likeWriters";
+    // 소비자 이름 접두어 (인스턴스마다 다른 이름을 붙여 어느 인스턴스가 읽은 이벤트인지 구분)
+    private static final String CONSUMER_PREFIX = "likeWriter-";
+    private static final String LOCK_KEY = "likeEvents:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+
+    private static final String FIELD_USER = "u";
+    private static final String FIELD_POST = "p";
+    private static final String FIELD_ACTION = "a";
+    private static final String LIKE = "L";
+    private static final String UNLIKE = "U";
+
+    // 재전송되어도 중복 행이 생기지 않도록 유니크 인덱스 기준 INSERT IGNORE, 그 사이 삭제된 게시글은 건너뜀
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO likes (user_id, post_id, created_at, updated_at) " +
+            "SELECT ?, id, ?, ? FROM post WHERE id = ?";
+    private static final String DELETE_SQL = "DELETE FROM likes WHERE user_id = ? AND post_id = ?";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final LikesRepository likesRepository;
+    private final PostExistenceService postExistenceService;
+    private final PostRedisService postRedisService;
+    private final LikesRedisService likesRedisService;
+
+    // true 면 좋아요 요청을 DB 커넥션 없이 처리 (기본은 기존 동기 방식)
+    @Value("${likes.ingest.async:false}")
+    private boolean enabled;
+
+    @Value("${likes.ingest.batch-size:500}")
+    private int batchSize;
+
+    // 한 번 실행에서 처리하는 최대 배치 수 (잠금 TTL 안에 끝나도록)
+    @Value("${likes.ingest.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    // 다른 소비자가 읽고 이 시간 동안 ACK 하지 않은 이벤트는 죽은 인스턴스의 것으로 보고 가져옴 (잠금 TTL 보다 길게)
+    @Value("${likes.ingest.claim-min-idle:2m}")
+    private Duration claimMinIdle;
+
+    // 이 인스턴스의 소비자 이름 (재기동하면 새 이름, 이전 이름에 남은 미완료 이벤트는 takeOverAbandoned 로 가져옴)
+    private final String consumer = CONSUMER_PREFIX + UUID.randomUUID();
+
+    private volatile boolean groupReady;
+    private long consumersCleanedAt;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 좋아요 (DB 조회/쓰기 없음)
+     * 1. 게시글 존재 여부는 게시글 캐시로 확인
+     * 2. Redis 스크립트로 좋아요 사용자 Set/카운터/랭킹 반영 (이미 좋아요한 상태면 예외)
+     * 3. 이벤트를 Stream 에 추가하고 응답, DB 반영은 소비자가 배치로 처리
+     */
+    public void createLike(Long postId, CustomUserDetails userDetails) {
+        Long userId = userDetails.getUser().getUserId();
+        postExistenceService.validateExists(postId);
+
+        if (!postRedisService.toggleLike(postId, userId, true, likerLoader(postId))) {
+            throw new CustomException(ErrorCode.ALREADY_LIKED);
+        }
+        publish(new LikeEvent(userId, postId, true));
+
+        // 본인 화면에 바로 보이도록 지금 반영, DB 반영 전 로딩된 Set 은 소비자가 커밋 후 다시 맞춤
+        likesRedisService.addLike(userId, postId);
+    }
+
+    public void deleteLike(Long postId, CustomUserDetails userDetails) {
+        Long userId = userDetails.getUser().getUserId();
+        postExistenceService.validateExists(postId);
+
+        if (!postRedisService.toggleLike(postId, userId, false, likerLoader(postId))) {
+            throw new CustomException(ErrorCode.LIKE_NOT_FOUND);
+        }
+        publish(new LikeEvent(userId, postId, false));
+
+        // 본인 화면에 바로 보이도록 지금 반영, DB 반영 전 로딩된 Set 은 소비자가 커밋 후 다시 맞춤
+        likesRedisService.removeLike(userId, postId);
+    }
+
+    // 좋아요 사용자 Set 이 없을 때만 DB 에서 읽어옴
+    // Set 만료 직후 아직 반영 전인 이벤트가 빠질 수 있지만, 다시 좋아요해도 INSERT 가 멱등이라 중복 행은 생기지 않음
+    private Supplier<Collection<Long>> likerLoader(Long postId) {
+        return () -> likesRepository.findUserIdsByPostId(postId);
+    }
+
+    // Stream 추가에 실패하면 Redis 토글을 되돌려 DB 와 어긋나지 않게 함
+    private void publish(LikeEvent event) {
+        try {
+            stringRedisTemplate.opsForStream().add(STREAM_KEY, Map.of(
+                    FIELD_USER, event.userId().toString(),
+                    FIELD_POST, event.postId().toString(),
+                    FIELD_ACTION, event.like() ? LIKE : UNLIKE));
+        } catch (RuntimeException e) {
+            postRedisService.toggleLike(event.postId(), event.userId(), !event.like(), likerLoader(event.postId()));
+            throw e;
+        }
+    }
+
+    /**
+     * 아직 DB 에 반영되지 않은 좋아요 이벤트의 게시글 ID (카운터 보정이 대기 중인 증감을 오차로 보지 않도록)
+     * 반영이 끝난 이벤트는 Stream 에서 삭제되므로 남아있는 이벤트가 곧 대기 중인 이벤트
+     * 대기 이벤트가 maxEvents 개를 넘으면 모두 확인하지 못하므로 null 반환
+     */
+    public Set<Long> findPendingPostIds(int maxEvents) {
+        Long size = stringRedisTemplate.opsForStream().size(STREAM_KEY);
+        if (size == null || size == 0) {
+            return Set.of();
+        }
+        if (size > maxEvents) {
+            return null;
+        }
+
+        List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream()
+                .range(STREAM_KEY, Range.unbounded(), Limit.limit().count(maxEvents));
+        if (records == null) {
+            return Set.of();
+        }
+        if (records.size() >= maxEvents) {
+            return null;
+        }
+
+        Set<Long> postIds = new HashSet<>();
+        for (MapRecord<String, Object, Object> record : records) {
+            Object postId = record.getValue().get(FIELD_POST);
+            if (postId != null) {
+                postIds.add(Long.parseLong(postId.toString()));
+            }
+        }
+        return postIds;
+    }
+
+    /**
+     * 쌓인 이벤트를 DB 에 반영
+     * 1. 다른(죽은) 인스턴스가 읽고 ACK 하지 못한 이벤트를 가져와 먼저 처리, 아직 가져올 수 없는 이벤트가 남아있으면
+     *    같은 사용자-게시글 쌍의 순서가 바뀌지 않도록 이번 실행에서는 새 이벤트를 읽지 않음
+     * 2. 이 인스턴스가 이전 실행에서 읽었지만 ACK 하지 못한 이벤트를 다시 처리 (INSERT/DELETE 가 멱등이라 재처리해도 안전)
+     * 3. 새 이벤트를 batchSize 개씩 읽어 사용자-게시글 쌍별로 합친 뒤 JDBC 배치로 반영
+     * 4. 반영이 끝난 이벤트는 ACK 후 Stream 에서 삭제
+     * 배치마다 잠금을 아직 가지고 있는지 확인하고, TTL 이 지나 다른 인스턴스로 넘어갔으면 중단
+     */
+    public void drain() {
+        String token = RedisLock.tryAcquire(stringRedisTemplate, LOCK_KEY, LOCK_TTL);
+        if (token == null) {
+            return;
+        }
+
+        try {
+            ensureGroup();
+            TakeOver takeOver = takeOverAbandoned();
+            int processed = takeOver.processed();
+            if (takeOver.caughtUp()) {
+                processed += drain(ReadOffset.from("0"), token) + drain(ReadOffset.lastConsumed(), token);
+                removeIdleConsumers();
+            }
+
+            if (processed > 0) {
+                log.debug("좋아요 이벤트 DB 반영 - {}건", processed);
+            }
+        } catch (RuntimeException e) {
+            // Stream 이 지워졌으면 다음 실행에서 소비자 그룹을 다시 만듦
+            groupReady = false;
+            throw e;
+        } finally {
+            RedisLock.release(stringRedisTemplate, LOCK_KEY, token);
+        }
+    }
+
+    /**
+     * 다른 소비자 이름으로 읽힌 채 claimMinIdle 이상 ACK 되지 않은 이벤트를 이 소비자로 가져와(XCLAIM) 반영
+     * 다른 소비자의 미완료 이벤트가 하나도 남지 않았을 때만 caughtUp
+     */
+    private TakeOver takeOverAbandoned() {
+        PendingMessages pending = stringRedisTemplate.opsForStream().pending(STREAM_KEY, GROUP, Range.unbounded(), batchSize);
+        List<PendingMessage> others = pending.stream()
+                .filter(message -> !consumer.equals(message.getConsumerName()))
+                .toList();
+        if (others.isEmpty()) {
+            return new TakeOver(0, true);
+        }
+
+        RecordId[] idle = others.stream()
+                .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(claimMinIdle) >= 0)
+                .map(PendingMessage::getId)
+                .toArray(RecordId[]::new);
+        if (idle.length == 0) {
+            return new TakeOver(0, false);
+        }
+
+        List<MapRecord<String, Object, Object>> records =
+                stringRedisTemplate.opsForStream().claim(STREAM_KEY, GROUP, consumer, claimMinIdle, idle);
+        if (records != null && !records.isEmpty()) {
+            write(records);
+        }
+
+        int processed = records == null ? 0 : records.size();
+        boolean caughtUp = idle.length == others.size() && pending.size() < batchSize;
+        log.info("다른 인스턴스의 미완료 좋아요 이벤트 처리 - {}건", processed);
+        return new TakeOver(processed, caughtUp);
+    }
+
+    // 미완료 이벤트가 없고 오래 사용되지 않은 소비자(종료된 인스턴스) 정리
+    private void removeIdleConsumers() {
+        long now = System.currentTimeMillis();
+        if (now - consumersCleanedAt < claimMinIdle.toMillis()) {
+            return;
+        }
+        consumersCleanedAt = now;
+
+        StreamInfo.XInfoConsumers consumers = stringRedisTemplate.opsForStream().consumers(STREAM_KEY, GROUP);
+        consumers.stream().forEach(info -> {
+            if (!consumer.equals(info.consumerName()) && info.pendingCount() == 0
+                    && info.idleTimeMs() >= claimMinIdle.toMillis()) {
+                stringRedisTemplate.opsForStream().deleteConsumer(STREAM_KEY, Consumer.from(GROUP, info.consumerName()));
+            }
+        });
+    }
+
+    private int drain(ReadOffset offset, String token) {
+        int processed = 0;
+
+        for (int i = 0; i < maxBatchesPerRun; i++) {
+            if (i > 0 && !RedisLock.isHeld(stringRedisTemplate, LOCK_KEY, token)) {
+                log.warn("좋아요 이벤트 반영 잠금 만료, 남은 이벤트는 잠금을 가진 인스턴스가 처리합니다.");
+                break;
+            }
+
+            List<MapRecord<String, Object, Object>> records = stringRedisTemplate.opsForStream().read(
+                    Consumer.from(GROUP, consumer),
+                    StreamReadOptions.empty().count(batchSize),
+                    StreamOffset.create(STREAM_KEY, offset));
+
+            if (records == null || records.isEmpty()) {
+                break;
+            }
+
+            write(records);
+            processed += records.size();
+
+            if (records.size() < batchSize) {
+                break;
+            }
+        }
+        return processed;
+    }
+
+    private void write(List<MapRecord<String, Object, Object>> records) {
+        List<LikeEvent> events = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> value = record.getValue();
+            try {
+                events.add(new LikeEvent(
+                        Long.parseLong(value.get(FIELD_USER).toString()),
+                        Long.parseLong(value.get(FIELD_POST).toString()),
+                        LIKE.equals(value.get(FIELD_ACTION))));
+            } catch (RuntimeException e) {
+                // 형식이 잘못된 이벤트는 계속 재시도하지 않도록 버림
+                log.warn("잘못된 좋아요 이벤트 - id: {}, value: {}", record.getId(), value);
+            }
+        }
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> inserts = new ArrayList<>();
+        List<Object[]> deletes = new ArrayList<>();
+        List<LikeEvent> coalesced = LikeEvent.coalesce(events);
+        for (LikeEvent event : coalesced) {
+            if (event.like()) {
+                inserts.add(new Object[]{event.userId(), now, now, event.postId()});
+            } else {
+                deletes.add(new Object[]{event.userId(), event.postId()});
+            }
+        }
+
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, inserts);
+        }
+        if (!deletes.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE_SQL, deletes);
+        }
+
+        // DB 에 반영된 뒤 사용자별 좋아요 Set 을 다시 맞춤 (요청 시점 반영과 DB 반영 사이에 DB 에서 로딩된 Set 보정)
+        coalesced.forEach(event -> {
+            if (event.like()) {
+                likesRedisService.addLike(event.userId(), event.postId());
+            } else {
+                likesRedisService.removeLike(event.userId(), event.postId());
+            }
+        });
+
+        RecordId[] ids = records.stream().map(MapRecord::getId).toArray(RecordId[]::new);
+        stringRedisTemplate.opsForStream().acknowledge(STREAM_KEY, GROUP, ids);
+        stringRedisTemplate.opsForStream().delete(STREAM_KEY, ids);
+    }
+
+    // 소비자 그룹이 없으면 Stream 과 함께 생성 (이미 있으면 BUSYGROUP 오류이므로 무시)
+    private void ensureGroup() {
+        if (groupReady) {
+            return;
+        }
+
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(STREAM_KEY.getBytes(StandardCharsets.UTF_8), GROUP, ReadOffset.from("0"), true));
+        } catch (DataAccessException e) {
+            if (!String.valueOf(e.getMostSpecificCause().getMessage()).contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+        groupReady = true;
+    }
+
+    private record TakeOver(int processed, boolean caughtUp) {
+    }
+}
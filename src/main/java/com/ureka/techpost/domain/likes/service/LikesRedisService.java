@@ -0,0 +1,134 @@
+package com.ureka.techpost.domain.likes.service;
+
+import com.ureka.techpost.domain.likes.repository.LikesRepository;
+import com.ureka.techpost.global.config.cache.RedisKeyLayout;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * @file LikesRedisService.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 사용자별로 좋아요한 게시글 ID 를 Redis Set 으로 관리하여, 좋아요 여부를 DB 조회 없이 한 번에 확인하는 서비스 클래스입니다.
+ */
+
+@Service
+@RequiredArgsConstructor
+public class LikesRedisService {
+
+    private static final String USER_LIKES_PREFIX = "userLikes::";
+    // 좋아요/취소가 커밋될 때마다 증가하는 사용자별 버전 (DB 조회 중 바뀐 목록으로 Set 을 만들지 않도록)
+    private static final String USER_LIKES_VERSION_PREFIX = "userLikesVersion::";
+    // 좋아요가 하나도 없는 사용자도 '로딩됨' 상태를 유지하기 위한 표시 멤버 (게시글 ID 는 1부터 시작)
+    private static final String LOADED_MARKER = "0";
+    private static final Duration TTL = Duration.ofDays(1);
+
+    // 버전을 올린 뒤 로딩된 Set 에만 추가/제거 (로딩 전이면 다음 조회 시 DB 에서 전체를 읽어옴)
+    private static final RedisScript<Long> APPLY_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('INCR', KEYS[2]) " +
+            "redis.call('EXPIRE', KEYS[2], ARGV[4]) " +
+            "if ARGV[3] == '1' then " +
+            "  if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then redis.call('SADD', KEYS[1], ARGV[2]) end " +
+            "else " +
+            "  redis.call('SREM', KEYS[1], ARGV[2]) " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    // DB 조회 전에 읽은 버전이 그대로이고 Set 이 아직 없을 때만 저장 (조회 중 커밋된 좋아요/취소가 있으면 다음 조회에서 다시 로딩)
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('GET', KEYS[2]) or '') ~= ARGV[3] then return 0 end " +
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "for i = 4, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end " +
+            "redis.call('SADD', KEYS[1], ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    private final LikesRepository likesRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public boolean isLiked(Long userId, Long postId) {
+        return getLikedPostIds(userId, List.of(postId)).contains(postId);
+    }
+
+    /**
+     * 주어진 게시글 중 사용자가 좋아요한 게시글 ID 반환
+     * 로딩 여부 표시 멤버도 함께 SMISMEMBER 로 확인하므로, 로딩된 경우 Redis 통신 1회로 끝남
+     */
+    public Set<Long> getLikedPostIds(Long userId, Collection<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return Set.of();
+        }
+
+        String key = getKey(userId);
+        List<Object> members = new ArrayList<>();
+        members.add(LOADED_MARKER);
+        postIds.forEach(postId -> members.add(postId.toString()));
+
+        Map<Object, Boolean> result = stringRedisTemplate.opsForSet().isMember(key, members.toArray());
+
+        // 캐시 미스 -> DB 에서 사용자의 좋아요 목록 전체를 읽어 Set 생성
+        if (result == null || !Boolean.TRUE.equals(result.get(LOADED_MARKER))) {
+            String version = stringRedisTemplate.opsForValue().get(getVersionKey(userId));
+            Set<Long> likedPostIds = new HashSet<>(likesRepository.findPostIdsByUserId(userId));
+            load(userId, version, likedPostIds);
+            likedPostIds.retainAll(postIds);
+            return likedPostIds;
+        }
+
+        Set<Long> likedPostIds = new HashSet<>();
+        postIds.forEach(postId -> {
+            if (Boolean.TRUE.equals(result.get(postId.toString()))) {
+                likedPostIds.add(postId);
+            }
+        });
+        return likedPostIds;
+    }
+
+    // DB 에 커밋된 뒤 호출 (커밋 전에 버전을 올리면 그 사이 로딩이 커밋 전 목록으로 Set 을 만들 수 있음)
+    public void addLike(Long userId, Long postId) {
+        apply(userId, postId, true);
+    }
+
+    public void removeLike(Long userId, Long postId) {
+        apply(userId, postId, false);
+    }
+
+    private void apply(Long userId, Long postId, boolean like) {
+        stringRedisTemplate.execute(APPLY_SCRIPT, List.of(getKey(userId), getVersionKey(userId)),
+                LOADED_MARKER, postId.toString(), like ? "1" : "0", String.valueOf(TTL.getSeconds()));
+    }
+
+    // 표시 멤버와 좋아요 목록, TTL 을 스크립트 한 번으로 저장
+    private void load(Long userId, String version, Set<Long> likedPostIds) {
+        List<String> args = new ArrayList<>(likedPostIds.size() + 3);
+        args.add(LOADED_MARKER);
+        args.add(String.valueOf(TTL.getSeconds()));
+        args.add(version == null ? "" : version);
+        likedPostIds.forEach(postId -> args.add(postId.toString()));
+
+        stringRedisTemplate.execute(LOAD_SCRIPT, List.of(getKey(userId), getVersionKey(userId)), args.toArray());
+    }
+
+    // Set 과 버전 키를 한 스크립트에서 다루므로 같은 해시 태그 사용
+    private String getKey(Long userId) {
+        return USER_LIKES_PREFIX + RedisKeyLayout.userTag(userId);
+    }
+
+    private String getVersionKey(Long userId) {
+        return USER_LIKES_VERSION_PREFIX + RedisKeyLayout.userTag(userId);
+    }
+}
@@ -1,72 +1,85 @@
 package com.ureka.techpost.domain.likes.service;
 
 import com.ureka.techpost.domain.auth.dto.CustomUserDetails;
-import com.ureka.techpost.domain.likes.entity.Likes;
 import com.ureka.techpost.domain.likes.repository.LikesRepository;
-import com.ureka.techpost.domain.post.entity.Post;
 import com.ureka.techpost.domain.post.repository.PostRepository;
+import com.ureka.techpost.domain.post.service.PostExistenceService;
 import com.ureka.techpost.domain.post.service.PostRedisService;
-import com.ureka.techpost.domain.user.entity.User;
-import com.ureka.techpost.domain.user.repository.UserRepository;
 import com.ureka.techpost.global.exception.CustomException;
 import com.ureka.techpost.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
 public class LikesService {
 
     private final LikesRepository likesRepository;
-    private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final PostExistenceService postExistenceService;
     private final PostRedisService postRedisService;
+    private final LikesRedisService likesRedisService;
 
     @Transactional
     public void createLike(Long postId, CustomUserDetails userDetails) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
-        User user = userRepository.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
+        // 게시글/사용자 엔티티를 읽지 않고 ID 만 사용 (사용자는 인증 필터에서 이미 조회됨)
+        postExistenceService.validateExists(postId);
+        Long userId = userDetails.getUser().getUserId();
 
-        if(likesRepository.existsByUserAndPost(user, post)){
+        // 유니크 인덱스 기준 INSERT IGNORE 한 번으로 중복 확인 + 저장 (동시에 두 번 눌러도 한 행만 추가됨)
+        // INSERT IGNORE 는 외래 키 오류도 0건으로 바꾸므로, 0건이면 캐시 확인 이후 삭제된 게시글인지 구분
+        if (likesRepository.insertIfAbsent(userId, postId) == 0) {
+            if (!postRepository.existsById(postId)) {
+                throw new CustomException(ErrorCode.POST_NOT_FOUND);
+            }
             throw new CustomException(ErrorCode.ALREADY_LIKED);
         }
 
-        Likes likes = Likes.builder()
-                .user(user)
-                .post(post)
-                .build();
+        // 실제로 추가된 1건을 Redis 카운터/랭킹에 그대로 반영 (멤버십으로 다시 판단하지 않음), DB 저장이 롤백되면 되돌림
+        postRedisService.applyLikeChange(postId, userId, true);
+        revertOnRollback(() -> postRedisService.applyLikeChange(postId, userId, false));
 
-        likesRepository.save(likes);
-
-        // 랭킹 점수 실시간 반영 (ZSet)
-        postRedisService.incrementLikeRanking(postId);
-        // 게시글 표시용
-        postRedisService.incrementLikeCount(postId);
+        // 사용자별 좋아요 여부 (커밋 후 반영)
+        afterCommit(() -> likesRedisService.addLike(userId, postId));
     }
 
     @Transactional
     public void deleteLike(Long postId, CustomUserDetails userDetails) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
-        User user = userRepository.findByUsername(userDetails.getUsername())
-                .orElseThrow(() -> new CustomException(ErrorCode.USER_NOT_FOUND));
-
-        Likes likes = likesRepository.findByUserAndPost(user, post)
-                .orElseThrow(() -> new CustomException(ErrorCode.LIKE_NOT_FOUND));
+        postExistenceService.validateExists(postId);
+        Long userId = userDetails.getUser().getUserId();
 
-        if(!likes.getUser().getUserId().equals(user.getUserId())){
-            throw  new CustomException(ErrorCode.USER_NOT_MATCH);
+        // 본인 좋아요만 삭제되므로 작성자 확인 불필요, 삭제된 행이 없으면 좋아요하지 않은 상태
+        if (likesRepository.deleteByUserIdAndPostId(userId, postId) == 0) {
+            throw new CustomException(ErrorCode.LIKE_NOT_FOUND);
         }
 
-        likesRepository.delete(likes);
+        postRedisService.applyLikeChange(postId, userId, false);
+        revertOnRollback(() -> postRedisService.applyLikeChange(postId, userId, true));
+
+        // 사용자별 좋아요 여부 (커밋 후 반영)
+        afterCommit(() -> likesRedisService.removeLike(userId, postId));
+    }
+
+    private void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
 
-        // 랭킹 점수 차감 (ZSet)
-        postRedisService.decrementLikeRanking(postId);
-        // 게시글 표시용
-        postRedisService.decrementLikeCount(postId);
+    private void revertOnRollback(Runnable revert) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    revert.run();
+                }
+            }
+        });
     }
 }
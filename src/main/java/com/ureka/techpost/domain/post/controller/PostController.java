@@ -1,8 +1,10 @@
 package com.ureka.techpost.domain.post.controller;
 
 import com.ureka.techpost.domain.auth.dto.CustomUserDetails;
+import com.ureka.techpost.domain.post.dto.PostCursorResponseDTO;
 import com.ureka.techpost.domain.post.dto.PostResponseDTO;
 import com.ureka.techpost.domain.post.dto.PostRequestDTO;
+import com.ureka.techpost.domain.post.enums.PopularRanking;
 import com.ureka.techpost.domain.post.service.PostService;
 import com.ureka.techpost.global.apiPayload.ApiResponse;
 import com.ureka.techpost.global.apiPayload.code.SuccessStatus;
@@ -35,6 +37,8 @@ import java.util.List;
 @RequestMapping("/posts")
 public class PostController {
 
+    private static final int MAX_CURSOR_SIZE = 50;
+
     private final PostService postService;
 
     @Operation(summary = "게시글 등록", description = "제목, 내용, 링크 등을 받아 게시글을 등록합니다.")
@@ -52,9 +56,23 @@ public class PostController {
     public  ApiResponse<Page<PostResponseDTO>> searchPosts(
             @Parameter(description = "검색할 키워드 (제목/요약)") @RequestParam(required = false) String keyword,
             @Parameter(description = "출처 필터링 (예: Velog)") @RequestParam(required = false) String publisher,
-            @ParameterObject @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC)Pageable pageable
+            @Parameter(description = "전체 개수로 캐시된 추정값 허용 여부 (응답의 totalApproximate 로 확인)") @RequestParam(defaultValue = "false") boolean approximate,
+            @ParameterObject @PageableDefault(size = 10, sort = "id", direction = Sort.Direction.DESC)Pageable pageable,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails
+    ){
+        return ApiResponse.onSuccess(postService.search(keyword, publisher, pageable, approximate, userDetails));
+    }
+
+    @Operation(summary = "게시글 목록 커서 조회", description = "cursor 파라미터가 있으면 커서 기반으로 조회합니다. 첫 페이지는 빈 cursor 로 요청하고, 이후에는 응답의 nextCursor 를 전달합니다. 전체 개수는 제공하지 않습니다.")
+    @GetMapping(value = "", params = "cursor")
+    public ApiResponse<PostCursorResponseDTO> searchPostsByCursor(
+            @Parameter(description = "검색할 키워드 (제목/요약)") @RequestParam(required = false) String keyword,
+            @Parameter(description = "출처 필터링 (예: Velog)") @RequestParam(required = false) String publisher,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "조회할 개수 (최대 50)") @RequestParam(defaultValue = "10") int size,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails
     ){
-        return ApiResponse.onSuccess(postService.search(keyword, publisher, pageable));
+        return ApiResponse.onSuccess(postService.searchByCursor(keyword, publisher, cursor, Math.min(Math.max(size, 1), MAX_CURSOR_SIZE), userDetails));
     }
 
     @Operation(summary = "게시글 상세 조회", description = "게시글 ID(PK)를 이용하여 특정 게시글의 상세 정보를 조회합니다.")
@@ -74,10 +92,13 @@ public class PostController {
         return ApiResponse.of(SuccessStatus._NO_CONTENT, null);
     }
 
-    @Operation(summary = "인기글", description = "좋아요 순으로 상위 10개의 게시물 List를 반환합니다.")
+    @Operation(summary = "인기글", description = "상위 10개의 게시물 List를 반환합니다. mode=likes 는 누적 좋아요 순, mode=trending 은 window(day/week) 기간의 최근 좋아요에 가중치를 둔 순서입니다.")
     @GetMapping("/popular")
-    public ApiResponse<List<PostResponseDTO>> getPopularPosts() {
-        return ApiResponse.onSuccess(postService.getPopularPosts());
+    public ApiResponse<List<PostResponseDTO>> getPopularPosts(
+            @Parameter(description = "인기글 기준 (likes: 누적 좋아요, trending: 최근 급상승)") @RequestParam(defaultValue = "likes") String mode,
+            @Parameter(description = "trending 기간 (day, week)") @RequestParam(defaultValue = "day") String window,
+            @Parameter(hidden = true) @AuthenticationPrincipal CustomUserDetails userDetails) {
+        return ApiResponse.onSuccess(postService.getPopularPosts(PopularRanking.of(mode, window), userDetails));
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.ureka.techpost.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @file PopularPostsSnapshot.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 인기글 목록을 미리 조립해 Redis에 한 덩어리로 저장하기 위한 스냅샷 클래스입니다.
+ */
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class PopularPostsSnapshot {
+
+    // 스냅샷을 만들 때 랭킹 ZSet 에서 읽은 ID 순서 (변경 감지용)
+    private List<Long> rankingIds = new ArrayList<>();
+
+    // 좋아요/댓글 수까지 채워진 인기글 DTO 목록
+    private List<PostResponseDTO> posts = new ArrayList<>();
+
+    private LocalDateTime builtAt;
+}
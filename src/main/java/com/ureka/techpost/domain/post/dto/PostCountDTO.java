@@ -0,0 +1,19 @@
+package com.ureka.techpost.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @file PostCountDTO.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 게시글별 좋아요/댓글 수를 GROUP BY 로 한 번에 집계할 때 사용하는 DTO 클래스입니다.
+ */
+
+@Getter
+@AllArgsConstructor
+public class PostCountDTO {
+    private Long postId;
+    private Long count;
+}
@@ -0,0 +1,20 @@
+package com.ureka.techpost.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * @file PostCounterDTO.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description post 테이블에 비정규화된 좋아요/댓글 수 컬럼을 한 번에 조회할 때 사용하는 DTO 클래스입니다.
+ */
+
+@Getter
+@AllArgsConstructor
+public class PostCounterDTO {
+    private Long postId;
+    private Long likeCount;
+    private Long commentCount;
+}
@@ -0,0 +1,23 @@
+package com.ureka.techpost.domain.post.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * @file PostCursorResponseDTO.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 커서 기반(무한 스크롤) 게시글 목록 조회 시 게시글 목록과 다음 커서를 담아 반환하는 DTO 클래스입니다.
+ */
+
+@Getter
+@AllArgsConstructor
+public class PostCursorResponseDTO {
+    private List<PostResponseDTO> posts;
+    // 다음 페이지 요청 시 cursor 파라미터로 그대로 전달 (마지막 페이지면 null)
+    private String nextCursor;
+    private boolean hasNext;
+}
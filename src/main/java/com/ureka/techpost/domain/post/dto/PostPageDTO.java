@@ -0,0 +1,28 @@
+package com.ureka.techpost.domain.post.dto;
+
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * @file PostPageDTO.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 게시글 목록 페이지 응답에 전체 개수가 캐시된 추정값인지 여부(totalApproximate)를 함께 담는 Page 구현 클래스입니다.
+ */
+
+public class PostPageDTO extends PageImpl<PostResponseDTO> {
+
+    private final boolean totalApproximate;
+
+    public PostPageDTO(List<PostResponseDTO> content, Pageable pageable, long total, boolean totalApproximate) {
+        super(content, pageable, total);
+        this.totalApproximate = totalApproximate;
+    }
+
+    public boolean isTotalApproximate() {
+        return totalApproximate;
+    }
+}
@@ -62,4 +62,10 @@ public class PostResponseDTO {
         this.commentCount = commentCount;
         this.isLiked = false;
     }
+
+    // 로컬 캐시에 공유되는 인스턴스를 보호하기 위한 복사본 생성
+    public PostResponseDTO copy() {
+        return new PostResponseDTO(id, title, summary, originalUrl, thumbnailUrl, publisher, publishedAt,
+                sourceName, createdAt, likeCount, commentCount, isLiked);
+    }
 }
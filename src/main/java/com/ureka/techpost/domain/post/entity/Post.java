@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import java.time.LocalDateTime;
@@ -18,7 +19,9 @@ import java.time.LocalDateTime;
  */
 
 @Entity
-@Table(name = "post")
+@Table(name = "post", indexes = {
+        @Index(name = "idx_post_like_count", columnList = "like_count")
+})
 @Getter
 @NoArgsConstructor
 public class Post extends BaseEntity {
@@ -48,6 +51,15 @@ public class Post extends BaseEntity {
     @Column(name = "thumbnail_url")
     private String thumbnailUrl;
 
+    // 좋아요/댓글 수 비정규화 컬럼 (Redis에 쌓인 증감분을 PostCounterFlushService 가 주기적으로 반영)
+    @ColumnDefault("0")
+    @Column(name = "like_count", nullable = false)
+    private Long likeCount = 0L;
+
+    @ColumnDefault("0")
+    @Column(name = "comment_count", nullable = false)
+    private Long commentCount = 0L;
+
     @Builder
     public Post(String title, String summary, String originalUrl, String publisher, LocalDateTime publishedAt, String sourceName, String thumbnailUrl) {
         this.title = title;
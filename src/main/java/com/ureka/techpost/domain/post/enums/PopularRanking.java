@@ -0,0 +1,52 @@
+package com.ureka.techpost.domain.post.enums;
+
+import com.ureka.techpost.global.config.cache.RedisKeyLayout;
+import com.ureka.techpost.global.exception.CustomException;
+import com.ureka.techpost.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * @file PopularRanking.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 인기글 목록의 기준이 되는 랭킹(누적 좋아요, 기간별 트렌딩)과 각 랭킹의 Redis 키를 정의하는 Enum 클래스입니다.
+ */
+
+@Getter
+@RequiredArgsConstructor
+public enum PopularRanking {
+
+    // 누적 좋아요 수
+    LIKES("likes", null, RedisKeyLayout.RANKING_TAG + ":likes", "snapshot:popular", 0),
+
+    // 최근 좋아요에 가중치를 둔 트렌딩 (기간이 지난 좋아요의 가중치가 1/16 이 되도록 반감기를 기간의 1/4 로 설정)
+    TRENDING_DAY("trending", "day", RedisKeyLayout.RANKING_TAG + ":trending:day", "snapshot:popular:trending:day", 6),
+    TRENDING_WEEK("trending", "week", RedisKeyLayout.RANKING_TAG + ":trending:week", "snapshot:popular:trending:week", 42);
+
+    private final String mode;
+    private final String window;
+    private final String rankingKey;
+    private final String snapshotKey;
+    private final int halfLifeHours;
+
+    public boolean isTrending() {
+        return halfLifeHours > 0;
+    }
+
+    /**
+     * 요청 파라미터로 랭킹 선택 (window 는 trending 일 때만 사용)
+     */
+    public static PopularRanking of(String mode, String window) {
+        for (PopularRanking ranking : values()) {
+            if (!ranking.mode.equalsIgnoreCase(mode)) {
+                continue;
+            }
+            if (ranking.window == null || ranking.window.equalsIgnoreCase(window)) {
+                return ranking;
+            }
+        }
+        throw new CustomException(ErrorCode.INVALID_POPULAR_RANKING);
+    }
+}
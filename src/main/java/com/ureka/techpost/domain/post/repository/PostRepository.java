@@ -1,5 +1,6 @@
 package com.ureka.techpost.domain.post.repository;
 
+import com.ureka.techpost.domain.post.dto.PostCounterDTO;
 import com.ureka.techpost.domain.post.dto.PostResponseDTO;
 import com.ureka.techpost.domain.post.entity.Post;
 import org.springframework.data.domain.Page;
@@ -9,6 +10,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -33,7 +36,34 @@ public interface PostRepository extends JpaRepository<Post, Long>, PostRepositor
             "WHERE p.id = :postId")
     Optional<PostResponseDTO> findPostById(@Param("postId") Long postId);
 
+    // 여러 게시글 DTO 를 한 번에 조회 (캐시 예열용)
+    @Query("SELECT new com.ureka.techpost.domain.post.dto.PostResponseDTO(" +
+            "p.id, p.title, p.summary, p.originalUrl, p.thumbnailUrl, " +
+            "p.publisher, p.publishedAt, p.sourceName, p.createdAt, " +
+            "0L, " +
+            "0L) " +
+            "FROM Post p " +
+            "WHERE p.id IN :postIds")
+    List<PostResponseDTO> findPostsByIds(@Param("postIds") Collection<Long> postIds);
+
+    // 가장 최근에 생성된 게시글 ID (없는 ID 조회 차단용)
+    @Query("SELECT max(p.id) FROM Post p")
+    Long findMaxId();
+
     // URL로 게시글 찾기
     Optional<Post> findByOriginalUrl(String originalUrl);
 
+    // 비정규화된 좋아요/댓글 수 컬럼 조회 (PK 조회라 집계 쿼리보다 저렴)
+    @Query("SELECT new com.ureka.techpost.domain.post.dto.PostCounterDTO(p.id, p.likeCount, p.commentCount) " +
+            "FROM Post p " +
+            "WHERE p.id IN :postIds")
+    List<PostCounterDTO> findCountersByIds(@Param("postIds") Collection<Long> postIds);
+
+    // ID 순으로 나눠 읽기 (검색 색인 등 전체 순회용)
+    List<Post> findTop500ByIdGreaterThanOrderByIdAsc(Long id);
+
+    // 엔티티를 읽지 않고 ID 만 순서대로 나눠 읽기 (랭킹 초기화 등 전체 순회용)
+    @Query("SELECT p.id FROM Post p WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<Long> findIdsAfter(@Param("lastId") Long lastId, Pageable pageable);
+
 }
@@ -4,6 +4,8 @@ import com.ureka.techpost.domain.post.dto.PostResponseDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 /**
  * @file PostRepositoryCustom.java
  * @author 최승언
@@ -14,4 +16,12 @@ import org.springframework.data.domain.Pageable;
 
 public interface PostRepositoryCustom {
     Page<Long> searchIds(String keyword, String sourceName, Pageable pageable);
+
+    // 전체 개수 없이 페이지의 ID 만 조회 (개수는 호출자가 캐시 등에서 필요할 때만 구함)
+    List<Long> searchIdList(String keyword, String sourceName, Pageable pageable);
+
+    long countSearch(String keyword, String sourceName);
+
+    // 커서(마지막으로 조회한 ID) 이전의 ID 를 최신순으로 조회, count 쿼리 없음
+    List<Long> searchIdsByCursor(String keyword, String sourceName, Long cursor, int size);
 }
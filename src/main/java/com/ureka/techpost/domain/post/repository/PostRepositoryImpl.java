@@ -4,7 +4,6 @@ import com.querydsl.core.types.ExpressionUtils;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.JPAExpressions;
-import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import com.ureka.techpost.domain.post.dto.PostResponseDTO;
 import lombok.RequiredArgsConstructor;
@@ -35,9 +34,15 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
     // 검색 조건에 맞는 id 탐색
     @Override
     public Page<Long> searchIds(String keyword, String sourceName, Pageable pageable) {
+        List<Long> ids = searchIdList(keyword, sourceName, pageable);
+        return PageableExecutionUtils.getPage(ids, pageable, () -> countSearch(keyword, sourceName));
+    }
+
+    @Override
+    public List<Long> searchIdList(String keyword, String sourceName, Pageable pageable) {
 
         // ID만 Select
-        List<Long> ids = queryFactory
+        return queryFactory
                 .select(post.id)
                 .from(post)
                 .where(
@@ -48,16 +53,39 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
                 .limit(pageable.getPageSize())
                 .orderBy(post.id.desc())                    // 정렬
                 .fetch();
+    }
+
+    // 검색 조건에 맞는 전체 개수
+    @Override
+    public long countSearch(String keyword, String sourceName) {
 
-        JPAQuery<Long> countQuery = queryFactory
+        Long count = queryFactory
                 .select(post.count())
                 .from(post)
                 .where(
                         titleOrSummaryContains(keyword),
                         sourceNameContains(sourceName)
-                );
+                )
+                .fetchOne();
 
-        return PageableExecutionUtils.getPage(ids, pageable, countQuery::fetchOne);
+        return count == null ? 0L : count;
+    }
+
+    // 커서 기반 조회: offset 대신 id < cursor 로 탐색하여 깊은 페이지도 일정한 속도 유지
+    @Override
+    public List<Long> searchIdsByCursor(String keyword, String sourceName, Long cursor, int size) {
+
+        return queryFactory
+                .select(post.id)
+                .from(post)
+                .where(
+                        titleOrSummaryContains(keyword),
+                        sourceNameContains(sourceName),
+                        idLessThan(cursor)
+                )
+                .orderBy(post.id.desc())
+                .limit(size)
+                .fetch();
     }
 
     // 제목 or 요약 키워드 검색
@@ -76,4 +104,12 @@ public class PostRepositoryImpl implements PostRepositoryCustom {
         }
         return post.sourceName.contains(provider);
     }
+
+    // 커서 이전 ID 조건 (첫 페이지는 조건 없음)
+    private BooleanExpression idLessThan(Long cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        return post.id.lt(cursor);
+    }
 }
@@ -0,0 +1,33 @@
+package com.ureka.techpost.domain.post.scheduler;
+
+import com.ureka.techpost.domain.post.service.CounterReconcileService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * @file CounterReconcileScheduler.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description Redis 좋아요/댓글 수와 DB 집계를 배치 단위로 조금씩 비교하고 보정하는 스케쥴러 클래스입니다.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CounterReconcileScheduler {
+
+    private final CounterReconcileService counterReconcileService;
+
+    // 실제 실행 간격은 DB 사용 비율(counter.reconcile.max-db-share)에 맞춰 서비스에서 조절
+    @Scheduled(fixedDelayString = "${counter.reconcile.interval-ms:1000}")
+    public void reconcileCounters() {
+        try {
+            counterReconcileService.reconcileNextBatch();
+        } catch (Exception e) {
+            log.error("카운터 정합성 보정 실패", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ureka.techpost.domain.post.scheduler;
+
+import com.ureka.techpost.domain.post.service.PopularPostService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * @file PopularPostScheduler.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 랭킹이 바뀌었거나 오래된 인기글 스냅샷을 주기적으로 다시 만드는 스케쥴러 클래스입니다.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PopularPostScheduler {
+
+    private final PopularPostService popularPostService;
+
+    @Scheduled(fixedDelayString = "${popular.snapshot.check-interval-ms:5000}")
+    public void refreshSnapshots() {
+        try {
+            popularPostService.refreshIfChanged();
+        } catch (Exception e) {
+            log.error("인기글 스냅샷 갱신 실패", e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.ureka.techpost.domain.post.scheduler;
+
+import com.ureka.techpost.domain.post.service.PostCounterFlushService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * @file PostCounterFlushScheduler.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description Redis에 쌓인 좋아요/댓글 수 증감분을 주기적으로 DB에 반영하는 스케쥴러 클래스입니다.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCounterFlushScheduler {
+
+    private final PostCounterFlushService postCounterFlushService;
+
+    @Scheduled(fixedDelayString = "${counter.flush.interval-ms:10000}")
+    public void flushCounters() {
+        try {
+            postCounterFlushService.flush();
+        } catch (Exception e) {
+            log.error("카운터 증감분 DB 반영 실패", e);
+        }
+    }
+}
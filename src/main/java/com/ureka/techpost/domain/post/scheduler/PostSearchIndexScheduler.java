@@ -0,0 +1,32 @@
+package com.ureka.techpost.domain.post.scheduler;
+
+import com.ureka.techpost.domain.post.service.search.PostSearchIndexLoader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * @file PostSearchIndexScheduler.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 다른 인스턴스에서 저장된 게시글을 주기적으로 검색 색인에 반영하는 스케쥴러 클래스입니다.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexScheduler {
+
+    private final PostSearchIndexLoader postSearchIndexLoader;
+
+    @Scheduled(fixedDelayString = "${search.index.sync-interval-ms:60000}")
+    public void syncNewPosts() {
+        try {
+            postSearchIndexLoader.syncNewPosts();
+        } catch (Exception e) {
+            log.error("게시글 검색 색인 동기화 실패", e);
+        }
+    }
+}
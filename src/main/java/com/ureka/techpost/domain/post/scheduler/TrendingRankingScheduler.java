@@ -0,0 +1,32 @@
+package com.ureka.techpost.domain.post.scheduler;
+
+import com.ureka.techpost.domain.post.service.TrendingRankingService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * @file TrendingRankingScheduler.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 시간 단위 좋아요 버킷을 주기적으로 트렌딩 랭킹에 반영하는 스케쥴러 클래스입니다.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingRankingScheduler {
+
+    private final TrendingRankingService trendingRankingService;
+
+    @Scheduled(fixedDelayString = "${ranking.trending.refresh-interval-ms:60000}")
+    public void refreshTrending() {
+        try {
+            trendingRankingService.refresh();
+        } catch (Exception e) {
+            log.error("트렌딩 랭킹 갱신 실패", e);
+        }
+    }
+}
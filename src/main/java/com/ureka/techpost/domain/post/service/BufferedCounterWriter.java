@@ -0,0 +1,160 @@
+package com.ureka.techpost.domain.post.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * @file BufferedCounterWriter.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 댓글 수 증감을 인스턴스 메모리에 모아, 게시글별 순 증감분만 주기적으로 하나의 파이프라인으로 Redis 에 반영하는 클래스입니다.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BufferedCounterWriter {
+
+    // 버퍼에 모으는 증감 종류 (StripedCounterBuffer 의 배열 인덱스)
+    // 좋아요는 중복 여부를 바로 판단해야 하므로 버퍼 대신 PostRedisService 의 토글 스크립트로 반영
+    public static final int COMMENT_COUNT = 0;
+    private static final int COUNTER_TYPES = 1;
+
+    private static final int STRIPES = 32;
+    // 조회 중 반영과 겹쳤을 때 다시 읽는 최대 횟수
+    private static final int MAX_READ_ATTEMPTS = 3;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // Redis 로 전송 중인 증감분도 반영이 끝날 때까지 버퍼에 남아 조회에서 빠지지 않음
+    private final StripedCounterBuffer buffer = new StripedCounterBuffer(STRIPES, COUNTER_TYPES);
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    // Redis 반영 세대, 반영 중에는 홀수 (조회가 반영과 겹쳤는지 판단)
+    private final AtomicLong flushEpoch = new AtomicLong();
+    private ScheduledExecutorService flusher;
+
+    @Value("${counter.buffer.flush-interval-ms:5}")
+    private long flushIntervalMs;
+
+    // 이 개수만큼 증감이 쌓이면 주기를 기다리지 않고 바로 반영
+    @Value("${counter.buffer.max-pending:500}")
+    private long maxPending;
+
+    @PostConstruct
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "counter-buffer-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 종료 시 남은 증감분을 모두 반영 (Redis 연결이 닫히기 전에 실행됨)
+    @PreDestroy
+    public void drain() throws InterruptedException {
+        flusher.shutdown();
+        flusher.awaitTermination(5, TimeUnit.SECONDS);
+        flush();
+        if (!buffer.isEmpty()) {
+            log.warn("종료 중 카운터 증감분 반영 실패, 일부 증감분이 유실될 수 있습니다.");
+        }
+    }
+
+    public void add(int counterType, Long postId, long delta) {
+        long pendingEvents = buffer.add(postId, counterType, delta);
+        if (pendingEvents >= maxPending && flushRequested.compareAndSet(false, true) && !flusher.isShutdown()) {
+            flusher.execute(this::flushQuietly);
+        }
+    }
+
+    /**
+     * 아직 Redis 에 반영되지 않은 증감분 (버퍼 + 전송 중)
+     * Redis 값과 더할 때는 readConsistent 안에서 Redis 값을 먼저 읽은 뒤 호출
+     */
+    public long pending(int counterType, Long postId) {
+        return buffer.pending(postId, counterType);
+    }
+
+    /**
+     * Redis 값 + pending() 조회를 반영과 겹치지 않은 상태에서 실행
+     * 조회 도중 반영이 시작/완료되면 같은 증감분이 Redis 값과 전송 중 버퍼에 함께 보여 두 번 셀 수 있으므로,
+     * 시작과 끝의 반영 세대가 같고 반영 중이 아닐 때의 결과만 사용 (반영은 파이프라인 1회라 다시 읽는 경우는 드묾)
+     * 계속 겹치면 마지막 결과를 사용 (잠시 더 크게 보일 수 있음)
+     */
+    public <T> T readConsistent(Supplier<T> reader) {
+        T result = null;
+        for (int attempt = 0; attempt < MAX_READ_ATTEMPTS; attempt++) {
+            long epoch = flushEpoch.get();
+            result = reader.get();
+            if ((epoch & 1) == 0 && flushEpoch.get() == epoch) {
+                return result;
+            }
+        }
+        return result;
+    }
+
+    private void flushQuietly() {
+        flushRequested.set(false);
+        try {
+            flush();
+        } catch (Exception e) {
+            log.warn("카운터 증감분 Redis 반영 실패, 다음 주기에 다시 시도합니다: {}", e.getMessage());
+        }
+    }
+
+    private synchronized void flush() {
+        Map<Long, long[]> drained = buffer.drain();
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        // 전송 중으로 옮긴 뒤 Redis 에 쓰기 전에 홀수로, 전송 중 상태를 정리한 뒤 짝수로
+        flushEpoch.incrementAndGet();
+        try {
+            write(drained);
+            buffer.complete();
+        } catch (RuntimeException e) {
+            // 실패한 증감분은 버퍼로 되돌려 다음 반영에 포함
+            buffer.restore();
+            throw e;
+        } finally {
+            flushEpoch.incrementAndGet();
+        }
+    }
+
+    /**
+     * 게시글별 순 증감분을 하나의 파이프라인으로 반영
+     * 표시용 카운터, DB 반영 대기 증감분(해시)
+     */
+    private void write(Map<Long, long[]> drained) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+
+            drained.forEach((postId, deltas) -> {
+                if (deltas[COMMENT_COUNT] != 0) {
+                    stringConnection.incrBy(PostRedisService.getCommentKey(postId), deltas[COMMENT_COUNT]);
+                    stringConnection.hIncrBy(CounterDeltas.COMMENT_DELTA_KEY, postId.toString(), deltas[COMMENT_COUNT]);
+                }
+            });
+            return null;
+        });
+    }
+}
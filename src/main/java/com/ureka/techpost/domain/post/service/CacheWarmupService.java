@@ -0,0 +1,168 @@
+package com.ureka.techpost.domain.post.service;
+
+import com.ureka.techpost.domain.post.dto.PostResponseDTO;
+import com.ureka.techpost.domain.post.enums.PopularRanking;
+import com.ureka.techpost.domain.post.repository.PostRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @file CacheWarmupService.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 기동 직후와 크롤링 직후, 랭킹 상위 게시글과 최신 게시글의 DTO/좋아요/댓글 수를 배치 단위로 Redis 에 미리 채워두는 서비스 클래스입니다.
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheWarmupService {
+
+    private final PostRepository postRepository;
+    private final PostRedisService postRedisService;
+    private final PopularPostService popularPostService;
+
+    // 랭킹 종류별 상위 게시글 수
+    @Value("${cache.warmup.top-size:100}")
+    private int topSize;
+
+    // 최신 게시글 수 (목록 첫 페이지들)
+    @Value("${cache.warmup.newest-size:200}")
+    private int newestSize;
+
+    @Value("${cache.warmup.batch-size:50}")
+    private int batchSize;
+
+    // 동시에 실행하는 배치 수 (= 예열이 동시에 사용하는 DB 커넥션 수 상한)
+    @Value("${cache.warmup.concurrency:2}")
+    private int concurrency;
+
+    // 배치 사이 쉬는 시간 (실제 요청이 DB/Redis 를 먼저 쓰도록 양보)
+    @Value("${cache.warmup.pause:20ms}")
+    private Duration pause;
+
+    // 예열은 한 번에 하나씩 실행하고, 실행 중에 들어온 요청은 한 번으로 합쳐 끝난 뒤 다시 실행
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private ExecutorService coordinator;
+    private ExecutorService workers;
+
+    @PostConstruct
+    public void start() {
+        coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup-worker-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        coordinator.shutdownNow();
+        workers.shutdownNow();
+    }
+
+    public void warmAsync(String reason) {
+        if (!scheduled.compareAndSet(false, true)) {
+            return;
+        }
+
+        coordinator.execute(() -> {
+            scheduled.set(false);
+            try {
+                warm(reason);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Exception e) {
+                log.error("캐시 예열 실패 - {}", reason, e);
+            }
+        });
+    }
+
+    /**
+     * 1. 랭킹별 상위 topSize 개 + 최신 newestSize 개 게시글 ID 수집 (중복 제거)
+     * 2. batchSize 단위로 나눠 최대 concurrency 개 배치만 동시에 예열
+     * 3. 인기글 스냅샷을 다시 만들어 첫 /posts/popular 요청도 바로 응답
+     */
+    private void warm(String reason) throws Exception {
+        long startedAt = System.currentTimeMillis();
+
+        Set<Long> postIds = new LinkedHashSet<>();
+        for (PopularRanking ranking : PopularRanking.values()) {
+            postIds.addAll(postRedisService.getTopPostIds(ranking, topSize));
+        }
+        postIds.addAll(postRepository.searchIdsByCursor(null, null, null, newestSize));
+
+        List<Long> ids = new ArrayList<>(postIds);
+        List<Future<Integer>> batches = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> batch = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            batches.add(workers.submit(() -> warmBatch(batch)));
+        }
+
+        int loaded = 0;
+        for (Future<Integer> batch : batches) {
+            loaded += batch.get();
+        }
+
+        popularPostService.refreshIfChanged();
+
+        log.info("캐시 예열 완료 - {}: 대상 {}건, DB 로딩 {}건, {}ms",
+                reason, ids.size(), loaded, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 배치 하나 예열 (Redis 조회 1회 + 캐시 미스 DB 조회 1회 + 파이프라인 저장)
+     * 이미 캐시에 있는 DTO 는 DB 에서 다시 읽지 않음
+     *
+     * @return DB 에서 읽어온 게시글 수
+     */
+    private int warmBatch(List<Long> postIds) throws InterruptedException {
+        List<PostResponseDTO> cached = postRedisService.getPostDtoList(postIds);
+
+        List<Long> missingIds = new ArrayList<>();
+        for (int i = 0; i < postIds.size(); i++) {
+            if (cached.get(i) == null) {
+                missingIds.add(postIds.get(i));
+            }
+        }
+
+        List<PostResponseDTO> dtos = new ArrayList<>(cached.stream().filter(Objects::nonNull).toList());
+        if (!missingIds.isEmpty()) {
+            List<PostResponseDTO> loaded = postRepository.findPostsByIds(missingIds);
+            postRedisService.savePostDtosIfAbsent(loaded);
+            dtos.addAll(loaded);
+        }
+
+        // 카운터 캐시 미스만 DB 컬럼 조회 1회 + SETNX 파이프라인으로 채움
+        postRedisService.fillCounts(dtos);
+
+        Thread.sleep(pause.toMillis());
+        return missingIds.size();
+    }
+}
@@ -0,0 +1,65 @@
+package com.ureka.techpost.domain.post.service;
+
+import com.ureka.techpost.global.config.cache.RedisKeyLayout;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+/**
+ * @file CounterDeltas.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description DB 비정규화 컬럼에 아직 반영되지 않은 좋아요/댓글 수 증감분 해시의 키 구성과, 게시글별 증감분 조회를 모아둔 클래스입니다.
+ */
+
+final class CounterDeltas {
+
+    // 누적 중인 증감분 (field: postId, value: delta)
+    // 반영 중인 키로 RENAME 할 수 있도록 같은 해시 태그 사용
+    static final String LIKE_DELTA_KEY = RedisKeyLayout.COUNTER_DELTA_TAG + ":likes";
+    static final String COMMENT_DELTA_KEY = RedisKeyLayout.COUNTER_DELTA_TAG + ":comments";
+    // 반영 중인 증감분은 이 접미사가 붙은 키로 옮겨서 처리
+    static final String FLUSHING_SUFFIX = ":flushing";
+
+    private CounterDeltas() {
+    }
+
+    // postIds 와 같은 순서의 게시글별 증감분 (누적 중 + 반영 중)
+    record Pending(long[] likes, long[] comments) {
+    }
+
+    /**
+     * 게시글별 아직 DB 에 반영되지 않은 증감분 조회
+     * 증감분 해시 4개(좋아요/댓글 x 누적중/반영중)를 한 번의 파이프라인으로 조회
+     */
+    static Pending read(StringRedisTemplate stringRedisTemplate, List<Long> postIds) {
+        String[] fields = postIds.stream().map(String::valueOf).toArray(String[]::new);
+
+        List<Object> hashes = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hMGet(LIKE_DELTA_KEY, fields);
+            stringConnection.hMGet(LIKE_DELTA_KEY + FLUSHING_SUFFIX, fields);
+            stringConnection.hMGet(COMMENT_DELTA_KEY, fields);
+            stringConnection.hMGet(COMMENT_DELTA_KEY + FLUSHING_SUFFIX, fields);
+            return null;
+        });
+
+        long[] likes = new long[fields.length];
+        long[] comments = new long[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            likes[i] = delta(hashes, 0, i) + delta(hashes, 1, i);
+            comments[i] = delta(hashes, 2, i) + delta(hashes, 3, i);
+        }
+        return new Pending(likes, comments);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static long delta(List<Object> hashes, int hashIndex, int fieldIndex) {
+        List<String> values = (List<String>) hashes.get(hashIndex);
+        String value = values == null ? null : values.get(fieldIndex);
+        return value == null ? 0L : Long.parseLong(value);
+    }
+}
@@ -0,0 +1,313 @@
+package com.ureka.techpost.domain.post.service;
+
+import com.ureka.techpost.domain.comment.repository.CommentRepository;
+import com.ureka.techpost.domain.likes.repository.LikesRepository;
+import com.ureka.techpost.domain.likes.service.LikeIngestService;
+import com.ureka.techpost.domain.post.dto.PostCountDTO;
+import com.ureka.techpost.domain.post.repository.PostRepository;
+import com.ureka.techpost.global.config.cache.RedisKeyLayout;
+import com.ureka.techpost.global.utils.RedisLock;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * @file CounterReconcileService.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 게시글을 ID 순으로 조금씩 순회하며 Redis 좋아요/댓글 수를 DB 집계와 비교하고, 다음 실행에서 다시 비교해도 어긋난 값을 바로잡는 서비스 클래스입니다.
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CounterReconcileService {
+
+    // 재기동/다른 인스턴스에서도 이어서 순회하도록 마지막으로 확인한 게시글 ID 를 Redis 에 저장
+    private static final String CURSOR_KEY = "counterReconcile:cursor";
+    private static final String LOCK_KEY = "counterReconcile:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+    // 다시 비교할 보정 후보 (필드: "게시글ID:타입", 값: "Redis 값,DB 집계값") 와 다시 비교할 시각
+    // 잠금을 다음에 어느 인스턴스가 가져가도 이어서 확인하도록 Redis 에 저장
+    private static final String SUSPECTS_KEY = "counterReconcile:suspects";
+    private static final String SUSPECTS_DUE_KEY = "counterReconcile:suspects:due";
+    private static final Duration SUSPECTS_TTL = Duration.ofMinutes(10);
+
+    // 읽었던 값 그대로일 때만 교체 (비교하는 사이 증감된 카운터는 덮어쓰지 않음)
+    private static final String COMPARE_AND_SET_SCRIPT =
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then redis.call('SET', KEYS[1], ARGV[2]) return 1 end return 0";
+
+    private static final String METRIC_PREFIX = "counter.reconcile";
+    private static final String LIKES = "likes";
+    private static final String COMMENTS = "comments";
+
+    private final PostRepository postRepository;
+    private final LikesRepository likesRepository;
+    private final CommentRepository commentRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final LikeIngestService likeIngestService;
+
+    @Value("${counter.reconcile.batch-size:200}")
+    private int batchSize;
+
+    // 전체 시간 중 DB 조회에 쓸 수 있는 비율 (0.05 = 5%, 배치에 걸린 DB 시간에 맞춰 다음 실행을 미룸)
+    @Value("${counter.reconcile.max-db-share:0.05}")
+    private double maxDbShare;
+
+    // 차이가 보이면 진행 중인 트랜잭션/증감분 반영이 끝나도록 기다렸다가 다시 비교
+    @Value("${counter.reconcile.settle-delay:1s}")
+    private Duration settleDelay;
+
+    // DB 반영 대기 중인 좋아요 이벤트를 확인할 최대 개수 (넘으면 이번 실행에서는 좋아요 수를 보정하지 않음)
+    @Value("${counter.reconcile.max-pending-scan:10000}")
+    private int maxPendingScan;
+
+    private volatile long nextRunAt;
+    private final AtomicLong cursor = new AtomicLong();
+    private Timer dbTimer;
+
+    @PostConstruct
+    public void registerMetrics() {
+        meterRegistry.gauge(METRIC_PREFIX + ".cursor", cursor);
+        dbTimer = meterRegistry.timer(METRIC_PREFIX + ".db.time");
+    }
+
+    public void reconcileNextBatch() {
+        if (System.currentTimeMillis() < nextRunAt) {
+            return;
+        }
+        String token = RedisLock.tryAcquire(stringRedisTemplate, LOCK_KEY, LOCK_TTL);
+        if (token == null) {
+            return;
+        }
+
+        long[] dbNanos = {0L};
+        try {
+            // 보정 후보가 남아있으면 새 배치 대신 후보부터 다시 비교 (settleDelay 전이면 이번 실행은 건너뜀)
+            if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(SUSPECTS_KEY))) {
+                recheckSuspects(dbNanos, token);
+                return;
+            }
+
+            String stored = stringRedisTemplate.opsForValue().get(CURSOR_KEY);
+            long lastId = stored == null ? 0L : Long.parseLong(stored);
+
+            List<Long> postIds = timed(dbNanos, () -> postRepository.findIdsAfter(lastId, PageRequest.of(0, batchSize)));
+
+            // 마지막 게시글까지 확인했으면 처음부터 다시 순회
+            if (postIds.isEmpty()) {
+                saveCursor(0L);
+                meterRegistry.counter(METRIC_PREFIX + ".passes").increment();
+                return;
+            }
+
+            reconcile(postIds, dbNanos);
+            saveCursor(postIds.get(postIds.size() - 1));
+        } finally {
+            RedisLock.release(stringRedisTemplate, LOCK_KEY, token);
+            // DB 사용 시간이 전체의 maxDbShare 를 넘지 않도록 다음 실행 시점 계산
+            long dbMillis = TimeUnit.NANOSECONDS.toMillis(dbNanos[0]);
+            nextRunAt = System.currentTimeMillis() + (long) (dbMillis * (1 / maxDbShare - 1));
+        }
+    }
+
+    /**
+     * 1. 배치의 좋아요/댓글 수를 group by 쿼리로 집계하고 Redis 값과 비교 (Redis 에 없는 키는 조회 시 DB 에서 채워지므로 제외)
+     * 2. 차이가 있으면 보정 후보로 저장하고, settleDelay 이후의 실행에서 다시 비교 (스케줄러 스레드를 잠재우지 않음)
+     * 비동기 좋아요 모드에서 DB 반영 대기 중인 이벤트가 있는 게시글의 좋아요 수는 차이로 보지 않음
+     */
+    private void reconcile(List<Long> postIds, long[] dbNanos) {
+        Map<String, Long> expected = timed(dbNanos, () -> countFromDb(postIds));
+        Map<String, String> actual = readCounters(expected.keySet());
+        Set<Long> pending = likeIngestService.findPendingPostIds(maxPendingScan);
+
+        Map<String, String> suspects = new HashMap<>();
+        postIds.forEach(postId -> {
+            String likeKey = PostRedisService.getLikeKey(postId);
+            if (isDrifted(actual.get(likeKey), expected.get(likeKey)) && isSettled(postId, pending)) {
+                suspects.put(postId + ":" + LIKES, actual.get(likeKey) + "," + expected.get(likeKey));
+            }
+
+            String commentKey = PostRedisService.getCommentKey(postId);
+            if (isDrifted(actual.get(commentKey), expected.get(commentKey))) {
+                suspects.put(postId + ":" + COMMENTS, actual.get(commentKey) + "," + expected.get(commentKey));
+            }
+        });
+
+        meterRegistry.counter(METRIC_PREFIX + ".checked", "type", LIKES).increment(postIds.size());
+        meterRegistry.counter(METRIC_PREFIX + ".checked", "type", COMMENTS).increment(postIds.size());
+
+        if (suspects.isEmpty()) {
+            return;
+        }
+
+        long dueAt = System.currentTimeMillis() + settleDelay.toMillis();
+        stringRedisTemplate.opsForValue().set(SUSPECTS_DUE_KEY, Long.toString(dueAt), SUSPECTS_TTL);
+        stringRedisTemplate.opsForHash().putAll(SUSPECTS_KEY, suspects);
+        stringRedisTemplate.expire(SUSPECTS_KEY, SUSPECTS_TTL);
+    }
+
+    /**
+     * 저장된 보정 후보를 다시 비교
+     * 처음 비교했을 때와 Redis 값/DB 집계값이 모두 그대로이고 대기 중인 좋아요 이벤트도 없을 때만,
+     * 현재 값이 그대로인지 확인하며 파이프라인으로 교체
+     */
+    private void recheckSuspects(long[] dbNanos, String token) {
+        String due = stringRedisTemplate.opsForValue().get(SUSPECTS_DUE_KEY);
+        if (due != null && System.currentTimeMillis() < Long.parseLong(due)) {
+            return;
+        }
+
+        Map<Object, Object> entries = stringRedisTemplate.opsForHash().entries(SUSPECTS_KEY);
+        stringRedisTemplate.delete(List.of(SUSPECTS_KEY, SUSPECTS_DUE_KEY));
+
+        Map<String, Long> postIdByKey = new HashMap<>();
+        Map<String, String[]> suspected = new HashMap<>();
+        entries.forEach((field, value) -> {
+            String[] postIdAndType = field.toString().split(":");
+            Long postId = Long.parseLong(postIdAndType[0]);
+            String key = LIKES.equals(postIdAndType[1])
+                    ? PostRedisService.getLikeKey(postId)
+                    : PostRedisService.getCommentKey(postId);
+
+            postIdByKey.put(key, postId);
+            suspected.put(key, value.toString().split(","));
+        });
+
+        if (suspected.isEmpty()) {
+            return;
+        }
+
+        List<Long> suspectedIds = postIdByKey.values().stream().distinct().toList();
+        Map<String, Long> recounted = timed(dbNanos, () -> countFromDb(suspectedIds));
+        Map<String, String> reread = readCounters(suspected.keySet());
+        Set<Long> pending = likeIngestService.findPendingPostIds(maxPendingScan);
+
+        Map<String, String[]> repairs = new HashMap<>();
+        suspected.forEach((key, values) -> {
+            Long postId = postIdByKey.get(key);
+            boolean settled = !key.equals(PostRedisService.getLikeKey(postId)) || isSettled(postId, pending);
+            boolean stable = values[0].equals(reread.get(key))
+                    && Objects.equals(Long.parseLong(values[1]), recounted.get(key));
+            if (settled && stable) {
+                repairs.put(key, new String[]{values[0], values[1]});
+            }
+        });
+
+        // 비교하는 동안 잠금 TTL 이 지나 다른 인스턴스가 보정을 시작했으면 덮어쓰지 않음
+        if (!RedisLock.isHeld(stringRedisTemplate, LOCK_KEY, token)) {
+            log.warn("카운터 보정 잠금 만료, 보정 후보 {}건을 건너뜁니다.", repairs.size());
+            return;
+        }
+        repair(repairs, postIdByKey);
+    }
+
+    private boolean isDrifted(String actual, Long expected) {
+        return actual != null && Long.parseLong(actual) != expected;
+    }
+
+    // 대기 이벤트를 모두 확인하지 못했으면(null) 어느 게시글도 반영이 끝났다고 볼 수 없음
+    private boolean isSettled(Long postId, Set<Long> pending) {
+        return pending != null && !pending.contains(postId);
+    }
+
+    // 표시용 카운터 키별 DB 집계값 (좋아요/댓글이 없는 게시글은 0)
+    private Map<String, Long> countFromDb(List<Long> postIds) {
+        Map<String, Long> counts = new HashMap<>();
+        postIds.forEach(postId -> {
+            counts.put(PostRedisService.getLikeKey(postId), 0L);
+            counts.put(PostRedisService.getCommentKey(postId), 0L);
+        });
+
+        for (PostCountDTO count : likesRepository.countGroupByPostIds(postIds)) {
+            counts.put(PostRedisService.getLikeKey(count.getPostId()), count.getCount());
+        }
+        for (PostCountDTO count : commentRepository.countGroupByPostIds(postIds)) {
+            counts.put(PostRedisService.getCommentKey(count.getPostId()), count.getCount());
+        }
+        return counts;
+    }
+
+    private Map<String, String> readCounters(Collection<String> keys) {
+        List<String> orderedKeys = new ArrayList<>(keys);
+        List<String> values = RedisKeyLayout.multiGet(stringRedisTemplate, orderedKeys);
+
+        Map<String, String> result = new HashMap<>();
+        for (int i = 0; i < orderedKeys.size(); i++) {
+            result.put(orderedKeys.get(i), values.get(i));
+        }
+        return result;
+    }
+
+    private void repair(Map<String, String[]> repairs, Map<String, Long> postIdByKey) {
+        if (repairs.isEmpty()) {
+            return;
+        }
+
+        List<String> keys = new ArrayList<>(repairs.keySet());
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            keys.forEach(key -> {
+                String[] values = repairs.get(key);
+                stringConnection.eval(COMPARE_AND_SET_SCRIPT, ReturnType.INTEGER, 1, key, values[0], values[1]);
+            });
+            return null;
+        });
+
+        for (int i = 0; i < keys.size(); i++) {
+            if (!Long.valueOf(1L).equals(results.get(i))) {
+                continue;
+            }
+            String key = keys.get(i);
+            String type = key.equals(PostRedisService.getLikeKey(postIdByKey.get(key))) ? LIKES : COMMENTS;
+            long drift = Math.abs(Long.parseLong(repairs.get(key)[0]) - Long.parseLong(repairs.get(key)[1]));
+
+            meterRegistry.counter(METRIC_PREFIX + ".repaired", "type", type).increment();
+            DistributionSummary.builder(METRIC_PREFIX + ".drift")
+                    .tag("type", type)
+                    .register(meterRegistry)
+                    .record(drift);
+            log.info("카운터 보정 - key: {}, {} -> {}", key, repairs.get(key)[0], repairs.get(key)[1]);
+        }
+    }
+
+    private void saveCursor(long postId) {
+        stringRedisTemplate.opsForValue().set(CURSOR_KEY, Long.toString(postId));
+        cursor.set(postId);
+    }
+
+    private <T> T timed(long[] dbNanos, Supplier<T> query) {
+        long start = System.nanoTime();
+        try {
+            return query.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            dbNanos[0] += elapsed;
+            dbTimer.record(elapsed, TimeUnit.NANOSECONDS);
+        }
+    }
+}
@@ -3,11 +3,15 @@ package com.ureka.techpost.domain.post.service;
 import com.ureka.techpost.domain.post.entity.Post;
 import com.ureka.techpost.domain.post.repository.PostRepository;
 import com.ureka.techpost.domain.post.service.crawler.BaseCrawler;
+import com.ureka.techpost.domain.post.service.search.PostSearchIndex;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -26,6 +30,10 @@ public class CrawlService {
     private final List<BaseCrawler> crawlers;
     private final PostRepository postRepository;
     private final PostRedisService postRedisService;
+    private final PostSearchIndex postSearchIndex;
+    private final PostSearchCountService postSearchCountService;
+    private final CacheWarmupService cacheWarmupService;
+    private final PostCacheService postCacheService;
 
     /**
      * 모든 크롤러를 실행하여 새로운 게시글 수집
@@ -34,22 +42,33 @@ public class CrawlService {
     public void crawlAll() {
         log.info("전체 크롤링 시작 - 크롤러 개수: {}", crawlers.size());
 
-        int totalSaved = 0;
+        List<Post> savedPosts = new ArrayList<>();
 
         for (BaseCrawler crawler : crawlers) {
             try {
                 List<Post> posts = crawler.crawl();
-                int saved = savePosts(posts);
-                totalSaved += saved;
+                List<Post> saved = savePosts(posts);
+                savedPosts.addAll(saved);
 
-                log.info("{} 크롤링 완료 - 저장된 게시글: {}", crawler.getSourceName(), saved);
+                log.info("{} 크롤링 완료 - 저장된 게시글: {}", crawler.getSourceName(), saved.size());
 
             } catch (Exception e) {
                 log.error("{} 크롤링 중 오류 발생", crawler.getSourceName(), e);
             }
         }
 
-        log.info("전체 크롤링 완료 - 총 저장된 게시글: {}", totalSaved);
+        log.info("전체 크롤링 완료 - 총 저장된 게시글: {}", savedPosts.size());
+
+        // 새 게시글이 커밋된 뒤에 예열해야 DB 에서 읽을 수 있음
+        if (!savedPosts.isEmpty()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    onPostsCommitted(savedPosts);
+                    cacheWarmupService.warmAsync("crawl");
+                }
+            });
+        }
     }
 
     /**
@@ -65,17 +84,38 @@ public class CrawlService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 출처: " + sourceName));
 
         List<Post> posts = targetCrawler.crawl();
-        int saved = savePosts(posts);
+        List<Post> saved = savePosts(posts);
+
+        log.info("{} 크롤링 완료 - 저장된 게시글: {}", sourceName, saved.size());
+
+        if (!saved.isEmpty()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    onPostsCommitted(saved);
+                }
+            });
+        }
+    }
 
-        log.info("{} 크롤링 완료 - 저장된 게시글: {}", sourceName, saved);
+    // 커밋 이후 새 ID 를 조회 가능 범위에 반영하고, 같은 ID 로 남아있을 수 있는 음성 캐시 제거
+    // 검색 색인도 커밋 이후에 반영 (롤백된 게시글이 검색되지 않도록)
+    private void onPostsCommitted(List<Post> posts) {
+        posts.forEach(post -> {
+            postCacheService.onPostCreated(post.getId());
+            postRedisService.evictPostDto(post.getId());
+            postSearchIndex.add(post);
+        });
+        // 검색 개수 캐시 무효화도 커밋 이후에 (커밋 전 다른 요청이 이전 개수를 새 세대로 다시 캐싱하지 않도록)
+        postSearchCountService.onPostsChanged(posts.size());
     }
 
     /**
      * 게시글 리스트를 DB에 저장 (중복 체크는 크롤러에서 이미 처리됨)
      */
-    private int savePosts(List<Post> posts) {
+    private List<Post> savePosts(List<Post> posts) {
         if (posts.isEmpty()) {
-            return 0;
+            return List.of();
         }
 
         List<Post> savedPosts = postRepository.saveAll(posts);
@@ -83,7 +123,7 @@ public class CrawlService {
         // 실시간 크롤링된 게시물 랭킹에 반영
         postRedisService.addRankingBatch(savedPosts);
 
-        return posts.size();
+        return savedPosts;
     }
 
     /**
@@ -0,0 +1,130 @@
+package com.ureka.techpost.domain.post.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ureka.techpost.domain.post.dto.PostCounterDTO;
+import com.ureka.techpost.domain.post.dto.PostResponseDTO;
+import com.ureka.techpost.global.utils.HotKeyDetector;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @file HotPostCache.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 조회가 몰리는 게시글(핫 키)을 감지하고, 해당 게시글의 DTO/좋아요·댓글 수를 짧은 TTL 로 인스턴스 메모리에 복제해두는 클래스입니다.
+ */
+
+@Component
+@RequiredArgsConstructor
+public class HotPostCache {
+
+    private static final String METRIC_PREFIX = "posts.hotkeys";
+
+    private final MeterRegistry meterRegistry;
+
+    // 조회 N건 중 1건만 기록 (감지 비용을 조회 수와 무관하게 낮게 유지)
+    @Value("${cache.hot-keys.sample-rate:10}")
+    private int sampleRate;
+
+    // 한 창에서 추정 조회 수가 이 값 이상이면 핫 키 (기본: 초당 200회)
+    @Value("${cache.hot-keys.threshold:200}")
+    private long threshold;
+
+    @Value("${cache.hot-keys.window:1s}")
+    private Duration window;
+
+    // 조회가 줄어든 뒤에도 핫 키로 유지하는 시간
+    @Value("${cache.hot-keys.hold:30s}")
+    private Duration hold;
+
+    @Value("${cache.hot-keys.max-tracked:10000}")
+    private int maxTracked;
+
+    // 로컬 복제본 최대 허용 지연 (DTO 는 수정이 드물어 길게, 카운터는 짧게)
+    @Value("${cache.hot-keys.dto-ttl:5s}")
+    private Duration dtoTtl;
+
+    @Value("${cache.hot-keys.counter-ttl:500ms}")
+    private Duration counterTtl;
+
+    @Value("${cache.hot-keys.max-size:1000}")
+    private int maxSize;
+
+    private HotKeyDetector<Long> detector;
+    private Cache<Long, PostResponseDTO> dtos;
+    private Cache<Long, PostCounterDTO> counters;
+
+    @PostConstruct
+    public void init() {
+        detector = new HotKeyDetector<>(sampleRate, threshold, window.toMillis(), hold.toMillis(), maxTracked,
+                System::currentTimeMillis);
+        dtos = Caffeine.newBuilder()
+                .expireAfterWrite(dtoTtl)
+                .maximumSize(maxSize)
+                .build();
+        counters = Caffeine.newBuilder()
+                .expireAfterWrite(counterTtl)
+                .maximumSize(maxSize)
+                .build();
+
+        meterRegistry.gauge(METRIC_PREFIX + ".count", detector, d -> d.hotKeys().size());
+    }
+
+    // 조회 1건 기록 후 핫 키 여부 반환
+    public boolean recordRead(Long postId) {
+        return detector.record(postId);
+    }
+
+    public boolean isHot(Long postId) {
+        return detector.isHot(postId);
+    }
+
+    // 호출자가 DTO 의 좋아요/댓글 수를 채우므로 복사본을 반환
+    public PostResponseDTO getDto(Long postId) {
+        PostResponseDTO dto = dtos.getIfPresent(postId);
+        meterRegistry.counter(METRIC_PREFIX + ".local", "type", "dto", "result", dto == null ? "miss" : "hit").increment();
+        return dto == null ? null : dto.copy();
+    }
+
+    public void putDto(PostResponseDTO dto) {
+        dtos.put(dto.getId(), dto.copy());
+    }
+
+    public PostCounterDTO getCounter(Long postId) {
+        PostCounterDTO counter = counters.getIfPresent(postId);
+        meterRegistry.counter(METRIC_PREFIX + ".local", "type", "counter", "result", counter == null ? "miss" : "hit").increment();
+        return counter;
+    }
+
+    public void putCounter(PostCounterDTO counter) {
+        counters.put(counter.getPostId(), counter);
+    }
+
+    // 이 인스턴스에서 바뀐 값은 바로 Redis 에서 다시 읽도록 제거 (다른 인스턴스는 TTL 만큼 늦게 반영)
+    public void invalidateCounter(Long postId) {
+        counters.invalidate(postId);
+    }
+
+    public void invalidateDto(Long postId) {
+        dtos.invalidate(postId);
+    }
+
+    // 현재 핫 키 (초당 추정 조회 수 내림차순)
+    public Map<Long, Long> hotKeys() {
+        Map<Long, Long> result = new LinkedHashMap<>();
+        detector.hotKeys().entrySet().stream()
+                .sorted(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder()))
+                .forEach(entry -> result.put(entry.getKey(), entry.getValue()));
+        return result;
+    }
+}
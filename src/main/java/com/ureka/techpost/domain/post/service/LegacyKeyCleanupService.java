@@ -0,0 +1,167 @@
+package com.ureka.techpost.domain.post.service;
+
+import com.ureka.techpost.global.utils.RedisLock;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * @file LegacyKeyCleanupService.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 게시글 키에 해시 태그를 붙이기 전의 옛 키(TTL 없이 남은 카운터, 좋아요 사용자 Set, 랭킹)를 기동 후 한 번 SCAN 해서 UNLINK 하는 서비스 클래스입니다.
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LegacyKeyCleanupService {
+
+    // 옛 게시글 키는 접두사 바로 뒤에 ID 숫자가 옴 (해시 태그 키는 '{' 로 시작하므로 매칭되지 않음)
+    private static final List<String> LEGACY_PATTERNS = List.of(
+            "postLikes::[0-9]*",
+            "postComments::[0-9]*",
+            "postLikers::[0-9]*");
+
+    // 옛 랭킹 키 (TTL 없음). 옛 트렌딩 버킷은 48시간 TTL 로 사라지고,
+    // 옛 증감분 해시(counterDelta:*)는 아직 DB 에 반영되지 않은 값일 수 있어 지우지 않음
+    private static final List<String> LEGACY_KEYS = List.of(
+            "ranking:likes",
+            "ranking:likes:bootstrap",
+            "ranking:likes:bootstrapped",
+            "ranking:trending:day",
+            "ranking:trending:week");
+
+    private static final String LOCK_KEY = "legacyKeyCleanup:lock";
+    // 정리를 마친 표시 (모든 인스턴스가 공유, 이후 기동에서는 건너뜀)
+    private static final String DONE_KEY = "legacyKeyCleanup:done";
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${redis.legacy-cleanup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${redis.legacy-cleanup.batch-size:500}")
+    private int batchSize;
+
+    // 배치 사이 쉬는 시간 (SCAN/UNLINK 가 실제 요청을 밀어내지 않도록)
+    @Value("${redis.legacy-cleanup.pause:10ms}")
+    private Duration pause;
+
+    @Value("${redis.legacy-cleanup.lock-ttl:10m}")
+    private Duration lockTtl;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "legacy-key-cleanup");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    // 기동을 막지 않도록 별도 스레드에서 정리
+    @EventListener(ApplicationReadyEvent.class)
+    public void cleanupOnStartup() {
+        if (!enabled) {
+            return;
+        }
+
+        executor.execute(() -> {
+            try {
+                cleanup();
+            } catch (Exception e) {
+                log.error("옛 Redis 키 정리 실패 (다음 기동 시 다시 시도)", e);
+            }
+        });
+    }
+
+    private void cleanup() throws InterruptedException {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(DONE_KEY))) {
+            return;
+        }
+
+        String token = RedisLock.tryAcquire(stringRedisTemplate, LOCK_KEY, lockTtl);
+        if (token == null) {
+            return;
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+
+            long removed = unlink(LEGACY_KEYS);
+            for (String pattern : LEGACY_PATTERNS) {
+                if (!RedisLock.isHeld(stringRedisTemplate, LOCK_KEY, token)) {
+                    return;
+                }
+                removed += unlinkMatching(pattern);
+            }
+
+            stringRedisTemplate.opsForValue().set(DONE_KEY, String.valueOf(System.currentTimeMillis()));
+            log.info("옛 Redis 키 정리 완료 - 삭제 {}건, {}ms", removed, System.currentTimeMillis() - startedAt);
+        } finally {
+            RedisLock.release(stringRedisTemplate, LOCK_KEY, token);
+        }
+    }
+
+    /**
+     * 패턴에 맞는 키를 SCAN 으로 나눠 찾아 batchSize 개씩 UNLINK
+     * (KEYS 와 달리 Redis 를 오래 막지 않고, UNLINK 는 메모리 해제를 백그라운드에서 처리)
+     */
+    private long unlinkMatching(String pattern) throws InterruptedException {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(batchSize).build();
+
+        List<String> batch = new ArrayList<>(batchSize);
+        long removed = 0;
+
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() >= batchSize) {
+                    removed += unlink(batch);
+                    batch.clear();
+                    Thread.sleep(pause.toMillis());
+                }
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            removed += unlink(batch);
+        }
+        return removed;
+    }
+
+    private long unlink(List<String> keys) {
+        byte[][] rawKeys = keys.stream()
+                .map(key -> key.getBytes(StandardCharsets.UTF_8))
+                .toArray(byte[][]::new);
+        Long removed = stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                connection.keyCommands().unlink(rawKeys));
+        return removed == null ? 0 : removed;
+    }
+}
@@ -0,0 +1,93 @@
+package com.ureka.techpost.domain.post.service;
+
+import com.ureka.techpost.domain.post.dto.PopularPostsSnapshot;
+import com.ureka.techpost.domain.post.dto.PostResponseDTO;
+import com.ureka.techpost.domain.post.enums.PopularRanking;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @file PopularPostService.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 인기글 목록을 미리 조립한 스냅샷으로 관리하여, 요청마다 Redis 조회 1회로 응답하도록 하는 서비스 클래스입니다.
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PopularPostService {
+
+    private static final int POPULAR_SIZE = 10;
+
+    private final PostRedisService postRedisService;
+    private final PostCacheService postCacheService;
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    // 랭킹 변동이 없어도 좋아요/댓글 수 갱신을 위해 스냅샷을 다시 만드는 주기
+    @Value("${popular.snapshot.max-age:30s}")
+    private Duration maxAge;
+
+    public List<PostResponseDTO> getPopularPosts(PopularRanking ranking) {
+        PopularPostsSnapshot snapshot = readSnapshot(ranking);
+
+        // 스냅샷이 없을 때만 요청 스레드에서 직접 생성
+        if (snapshot == null) {
+            snapshot = rebuild(ranking, postRedisService.getTopPostIds(ranking, POPULAR_SIZE));
+        }
+
+        return new ArrayList<>(snapshot.getPosts());
+    }
+
+    /**
+     * 랭킹 순서/구성이 바뀌었거나 스냅샷이 오래되었으면 다시 생성 (랭킹 종류별로 확인)
+     */
+    public void refreshIfChanged() {
+        for (PopularRanking ranking : PopularRanking.values()) {
+            try {
+                List<Long> rankingIds = postRedisService.getTopPostIds(ranking, POPULAR_SIZE);
+                PopularPostsSnapshot snapshot = readSnapshot(ranking);
+
+                if (snapshot == null
+                        || !rankingIds.equals(snapshot.getRankingIds())
+                        || snapshot.getBuiltAt() == null
+                        || snapshot.getBuiltAt().plus(maxAge).isBefore(LocalDateTime.now())) {
+                    rebuild(ranking, rankingIds);
+                }
+            } catch (Exception e) {
+                log.warn("인기글 스냅샷 갱신 실패 - ranking: {}, {}", ranking, e.getMessage());
+            }
+        }
+    }
+
+    private PopularPostsSnapshot rebuild(PopularRanking ranking, List<Long> rankingIds) {
+        List<PostResponseDTO> posts = new ArrayList<>();
+
+        // 삭제된 게시글은 랭킹에서 제거 (음성 캐시되므로 다음 갱신 때 DB 를 다시 조회하지 않음)
+        for (Long id : rankingIds) {
+            postCacheService.getPostBaseDto(id)
+                    .ifPresentOrElse(posts::add, () -> postRedisService.removeRanking(id));
+        }
+
+        postRedisService.fillCounts(posts);
+
+        // 역직렬화 시 타입 정보가 필요하므로 ArrayList 로 저장
+        PopularPostsSnapshot snapshot = new PopularPostsSnapshot(new ArrayList<>(rankingIds), posts, LocalDateTime.now());
+        redisTemplate.opsForValue().set(ranking.getSnapshotKey(), snapshot, maxAge.multipliedBy(10));
+        return snapshot;
+    }
+
+    private PopularPostsSnapshot readSnapshot(PopularRanking ranking) {
+        Object value = redisTemplate.opsForValue().get(ranking.getSnapshotKey());
+        return value instanceof PopularPostsSnapshot snapshot ? snapshot : null;
+    }
+}
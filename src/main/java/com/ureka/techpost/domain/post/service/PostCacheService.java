@@ -2,22 +2,62 @@ package com.ureka.techpost.domain.post.service;
 
 import com.ureka.techpost.domain.post.dto.PostResponseDTO;
 import com.ureka.techpost.domain.post.repository.PostRepository;
-import com.ureka.techpost.global.exception.CustomException;
-import com.ureka.techpost.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.Optional;
+
 @Service
 @RequiredArgsConstructor
 public class PostCacheService {
     private final PostRepository postRepository;
 
+    // 지금까지 확인한 가장 큰 게시글 ID (ID 는 자동 증가이므로 이보다 크면 아직 없는 게시글)
+    private volatile long knownMaxId;
+    private volatile long maxIdRefreshedAt;
+
+    // 최대 ID 보다 큰 ID 요청이 이어져도 최대 ID 재조회는 이 주기에 한 번만
+    @Value("${cache.posts.max-id-refresh-interval:1s}")
+    private Duration maxIdRefreshInterval;
+
+    // sync = true: 캐시 미스 로딩을 TwoTierCache 의 stampede 방지 경로로 처리
+    // 키는 게시글 해시 태그 (좋아요/댓글 수 키와 같은 클러스터 슬롯)
+    // 없는 게시글은 Optional.empty 가 null 로 캐싱됨 (posts 캐시의 음성 캐시 TTL 적용)
     @Transactional(readOnly = true)
-    @Cacheable(value = "posts", key = "#postId", cacheManager = "redisCacheManager")
-    public PostResponseDTO getPostBaseDto(Long postId) {
-        return postRepository.findPostById(postId)
-                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
+    @Cacheable(value = "posts", key = "T(com.ureka.techpost.global.config.cache.RedisKeyLayout).postTag(#postId)", cacheManager = "twoTierCacheManager", sync = true)
+    public Optional<PostResponseDTO> getPostBaseDto(Long postId) {
+        return postRepository.findPostById(postId);
+    }
+
+    /**
+     * 순차 ID 스크랩처럼 아직 생성되지 않은 ID 가 이어져도 DB 를 조회하지 않도록, 캐시 조회 전에 최대 ID 와 비교
+     * 다른 인스턴스에서 방금 생성된 게시글일 수 있으므로 최대 ID 보다 크면 주기적으로 다시 확인
+     * 이 결과는 캐싱하지 않음 (생성 직후 음성 캐시가 남지 않도록)
+     */
+    public boolean mightExist(Long postId) {
+        if (postId == null || postId <= 0) {
+            return false;
+        }
+        if (postId <= knownMaxId) {
+            return true;
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - maxIdRefreshedAt >= maxIdRefreshInterval.toMillis()) {
+            maxIdRefreshedAt = now;
+            Long maxId = postRepository.findMaxId();
+            onPostCreated(maxId == null ? 0L : maxId);
+        }
+        return postId <= knownMaxId;
+    }
+
+    public synchronized void onPostCreated(long postId) {
+        if (postId > knownMaxId) {
+            knownMaxId = postId;
+        }
     }
 }
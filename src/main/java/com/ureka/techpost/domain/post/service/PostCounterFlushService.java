@@ -0,0 +1,182 @@
+package com.ureka.techpost.domain.post.service;
+
+import com.ureka.techpost.domain.comment.repository.CommentRepository;
+import com.ureka.techpost.domain.likes.repository.LikesRepository;
+import com.ureka.techpost.domain.post.dto.PostCountDTO;
+import com.ureka.techpost.domain.post.repository.PostRepository;
+import com.ureka.techpost.global.utils.RedisLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @file PostCounterFlushService.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description Redis에 쌓인 좋아요/댓글 수 증감분을 post 테이블의 비정규화 컬럼에 JDBC 배치로 반영(write-behind)하고, 컬럼 추가 전부터 있던 게시글의 값을 채우는(backfill) 서비스 클래스입니다.
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostCounterFlushService {
+
+    // 여러 인스턴스가 동시에 같은 증감분을 반영하지 않도록 잠금
+    private static final String LOCK_KEY = "counterDelta:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+
+    // 기존 게시글 컬럼 채우기 진행 위치와 완료 표시
+    private static final String BACKFILL_CURSOR_KEY = "counterBackfill:cursor";
+    private static final String BACKFILLED_KEY = "counterBackfill:done";
+    // 완료 전에는 다른 인스턴스의 완료 여부를 이 주기로만 다시 확인
+    private static final long BACKFILL_CHECK_INTERVAL_MS = 5000;
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final PostRepository postRepository;
+    private final LikesRepository likesRepository;
+    private final CommentRepository commentRepository;
+
+    @Value("${counter.flush.batch-size:500}")
+    private int batchSize;
+
+    // 한 번 실행에서 채우는 최대 배치 수 (잠금 TTL 안에 끝나도록)
+    @Value("${counter.backfill.max-batches-per-run:20}")
+    private int backfillBatchesPerRun;
+
+    private volatile boolean backfilled;
+    private volatile long backfillCheckedAt;
+
+    /**
+     * 기존 게시글의 컬럼 채우기가 끝났는지 여부
+     * 끝나기 전에는 컬럼 값이 0 일 수 있으므로 카운터 캐시 미스 로딩은 likes/comment 행 수를 사용
+     */
+    public boolean isBackfilled() {
+        if (backfilled) {
+            return true;
+        }
+
+        long now = System.currentTimeMillis();
+        if (now - backfillCheckedAt >= BACKFILL_CHECK_INTERVAL_MS) {
+            backfillCheckedAt = now;
+            backfilled = Boolean.TRUE.equals(stringRedisTemplate.hasKey(BACKFILLED_KEY));
+        }
+        return backfilled;
+    }
+
+    public void flush() {
+        String token = RedisLock.tryAcquire(stringRedisTemplate, LOCK_KEY, LOCK_TTL);
+        if (token == null) {
+            return;
+        }
+
+        try {
+            // 컬럼 채우기는 증감분 반영과 겹치지 않도록 같은 잠금 안에서 먼저 진행
+            if (!isBackfilled()) {
+                backfill();
+            }
+
+            int likes = flush(CounterDeltas.LIKE_DELTA_KEY, "like_count");
+            int comments = flush(CounterDeltas.COMMENT_DELTA_KEY, "comment_count");
+
+            if (likes + comments > 0) {
+                log.debug("카운터 증감분 DB 반영 - 좋아요: {}건, 댓글: {}건", likes, comments);
+            }
+        } finally {
+            RedisLock.release(stringRedisTemplate, LOCK_KEY, token);
+        }
+    }
+
+    /**
+     * 컬럼 추가 전부터 있던 게시글의 좋아요/댓글 수 채우기 (ID 순으로 batchSize 개씩, 진행 위치는 Redis 에 저장)
+     * 컬럼 = 실제 행 수 - 아직 반영되지 않은 증감분 (증감분은 이후 반영 시 더해지므로)
+     * 행 수와 증감분을 읽는 사이에 진행 중이던 좋아요/댓글 요청 수만큼 오차가 생길 수 있음
+     * 비동기 좋아요 모드에서는 큐에 남은 이벤트가 아직 행에 없으므로 채우기가 끝난 뒤 켜야 함
+     */
+    private void backfill() {
+        String cursorValue = stringRedisTemplate.opsForValue().get(BACKFILL_CURSOR_KEY);
+        long cursor = cursorValue == null ? 0L : Long.parseLong(cursorValue);
+
+        for (int i = 0; i < backfillBatchesPerRun; i++) {
+            List<Long> ids = postRepository.findIdsAfter(cursor, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                stringRedisTemplate.opsForValue().set(BACKFILLED_KEY, "1");
+                stringRedisTemplate.delete(BACKFILL_CURSOR_KEY);
+                backfilled = true;
+                log.info("좋아요/댓글 수 컬럼 채우기 완료");
+                return;
+            }
+
+            backfillBatch(ids);
+            cursor = ids.get(ids.size() - 1);
+            stringRedisTemplate.opsForValue().set(BACKFILL_CURSOR_KEY, Long.toString(cursor));
+        }
+    }
+
+    private void backfillBatch(List<Long> ids) {
+        Map<Long, Long> likeCounts = toMap(likesRepository.countGroupByPostIds(ids));
+        Map<Long, Long> commentCounts = toMap(commentRepository.countGroupByPostIds(ids));
+
+        CounterDeltas.Pending pending = CounterDeltas.read(stringRedisTemplate, ids);
+
+        List<Object[]> batchArgs = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            Long postId = ids.get(i);
+            long likes = likeCounts.getOrDefault(postId, 0L) - pending.likes()[i];
+            long comments = commentCounts.getOrDefault(postId, 0L) - pending.comments()[i];
+            batchArgs.add(new Object[]{Math.max(likes, 0L), Math.max(comments, 0L), postId});
+        }
+
+        jdbcTemplate.batchUpdate("UPDATE post SET like_count = ?, comment_count = ? WHERE id = ?", batchArgs);
+    }
+
+    private Map<Long, Long> toMap(List<PostCountDTO> counts) {
+        Map<Long, Long> result = new HashMap<>();
+        counts.forEach(count -> result.put(count.getPostId(), count.getCount()));
+        return result;
+    }
+
+    /**
+     * 누적 중인 해시를 반영 중 키로 옮긴 뒤(RENAME) DB에 더하고 삭제
+     * 이전 실행이 DB 반영 후 삭제 전에 실패했다면 남은 반영 중 키를 먼저 처리하므로, 드물게 같은 증감분이 두 번 반영될 수 있음
+     */
+    private int flush(String deltaKey, String column) {
+        String flushingKey = deltaKey + CounterDeltas.FLUSHING_SUFFIX;
+
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(flushingKey))) {
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(deltaKey))) {
+                return 0;
+            }
+            stringRedisTemplate.rename(deltaKey, flushingKey);
+        }
+
+        Map<Object, Object> deltas = stringRedisTemplate.opsForHash().entries(flushingKey);
+
+        List<Object[]> batchArgs = new ArrayList<>();
+        deltas.forEach((postId, delta) -> {
+            long value = Long.parseLong(delta.toString());
+            if (value != 0) {
+                batchArgs.add(new Object[]{value, Long.parseLong(postId.toString())});
+            }
+        });
+
+        String sql = "UPDATE post SET " + column + " = GREATEST(" + column + " + ?, 0) WHERE id = ?";
+        for (int from = 0; from < batchArgs.size(); from += batchSize) {
+            jdbcTemplate.batchUpdate(sql, batchArgs.subList(from, Math.min(from + batchSize, batchArgs.size())));
+        }
+
+        stringRedisTemplate.delete(flushingKey);
+        return batchArgs.size();
+    }
+}
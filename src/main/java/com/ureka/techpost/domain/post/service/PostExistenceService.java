@@ -0,0 +1,33 @@
+package com.ureka.techpost.domain.post.service;
+
+import com.ureka.techpost.global.exception.CustomException;
+import com.ureka.techpost.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/**
+ * @file PostExistenceService.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 좋아요/댓글 쓰기 전에 게시글 존재 여부를 DB 조회 없이 최대 ID 와 게시글 캐시(음성 캐시 포함)로 확인하는 서비스 클래스입니다.
+ */
+
+@Service
+@RequiredArgsConstructor
+public class PostExistenceService {
+
+    // @Cacheable 프록시를 거치도록 별도 빈에서 호출
+    private final PostCacheService postCacheService;
+
+    /**
+     * 1. 최대 ID 보다 큰 ID 는 바로 거절
+     * 2. 게시글 캐시 조회 (캐시 미스일 때만 DB 조회, 삭제된 게시글은 음성 캐시로 응답)
+     * 캐시 TTL 안에 다른 인스턴스에서 삭제된 게시글은 통과할 수 있으므로, 쓰기는 FK 위반으로 한 번 더 걸러짐
+     */
+    public void validateExists(Long postId) {
+        if (!postCacheService.mightExist(postId) || postCacheService.getPostBaseDto(postId).isEmpty()) {
+            throw new CustomException(ErrorCode.POST_NOT_FOUND);
+        }
+    }
+}
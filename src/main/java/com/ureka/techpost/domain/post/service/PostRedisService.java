@@ -2,24 +2,46 @@ package com.ureka.techpost.domain.post.service;
 
 import com.ureka.techpost.domain.comment.repository.CommentRepository;
 import com.ureka.techpost.domain.likes.repository.LikesRepository;
+import com.ureka.techpost.domain.post.dto.PostCounterDTO;
 import com.ureka.techpost.domain.post.dto.PostResponseDTO;
 import com.ureka.techpost.domain.post.entity.Post;
+import com.ureka.techpost.domain.post.enums.PopularRanking;
 import com.ureka.techpost.domain.post.repository.PostRepository;
+import com.ureka.techpost.global.config.cache.RedisKeyLayout;
+import com.ureka.techpost.global.config.cache.ReplicaReadRouter;
+import com.ureka.techpost.global.config.cache.StampedeGuard;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
 import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -35,8 +57,10 @@ import java.util.stream.Collectors;
 public class PostRedisService {
 
     private final PostRepository postRepository;
+    // 컬럼 채우기 전 캐시 미스 로딩용
     private final LikesRepository likesRepository;
     private final CommentRepository commentRepository;
+    private final PostCounterFlushService postCounterFlushService;
 
     // 객체(DTO) 저장용
     private final RedisTemplate<String, Object> redisTemplate;
@@ -44,11 +68,67 @@ public class PostRedisService {
     private final StringRedisTemplate stringRedisTemplate;
 
     private final CacheManager cacheManager;
+    private final StampedeGuard stampedeGuard;
+    private final BufferedCounterWriter bufferedCounterWriter;
+    // 읽기 전용 조회를 레플리카로 보낼지 결정 (레플리카 미사용 시 위 템플릿과 같은 연결)
+    private final ReplicaReadRouter replicaReadRouter;
+    // 조회가 몰리는 게시글은 Redis 대신 인스턴스 메모리의 짧은 TTL 복제본에서 응답
+    private final HotPostCache hotPostCache;
 
     private static final String CACHE_POSTS = "posts";
     private static final String CACHE_LIKES = "postLikes";
     private static final String CACHE_COMMENTS = "postComments";
-    private static final String RANKING_KEY = "ranking:likes";
+    // RedisConfig 의 기본 캐시 TTL 과 같게 유지
+    private static final Duration POSTS_TTL = Duration.ofMinutes(10);
+    static final String RANKING_KEY = PopularRanking.LIKES.getRankingKey();
+    private static final String COUNTER_LOAD_KEY_PREFIX = "counters::";
+    private static final String RANKING_BOOTSTRAP_KEY = RANKING_KEY + ":bootstrap";
+    private static final String RANKING_BOOTSTRAPPED_KEY = RANKING_KEY + ":bootstrapped";
+
+    // 게시글별 좋아요 누른 사용자 Set (빈 Set 도 '로딩됨' 으로 구분하기 위한 표시 멤버 포함, 사용자 ID 는 1부터 시작)
+    private static final String LIKERS_PREFIX = "postLikers::";
+    private static final String LIKERS_LOADED_MARKER = "0";
+    private static final Duration LIKERS_TTL = Duration.ofDays(1);
+    private static final long LIKERS_NOT_LOADED = -1L;
+
+    // KEYS: 사용자 Set, 표시용 카운터 (같은 게시글 해시 태그이므로 클러스터에서도 같은 슬롯)
+    // ARGV: 표시 멤버, 사용자 ID, 증감(1/-1)
+    // 카운터 키가 없으면 증가시키지 않음 (0부터 시작하지 않도록, 다음 조회 시 DB 값 + 증감분 해시로 다시 로딩됨)
+    private static final RedisScript<Long> LIKE_TOGGLE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 0 then return -1 end " +
+            "local changed " +
+            "if ARGV[3] == '1' then changed = redis.call('SADD', KEYS[1], ARGV[2]) " +
+            "else changed = redis.call('SREM', KEYS[1], ARGV[2]) end " +
+            "if changed == 1 and redis.call('EXISTS', KEYS[2]) == 1 then redis.call('INCRBY', KEYS[2], ARGV[3]) end " +
+            "return changed",
+            Long.class);
+
+    // DB 에 이미 반영된 1건을 그대로 적용 (KEYS/ARGV 는 LIKE_TOGGLE_SCRIPT 와 같음)
+    // 사용자 Set 은 로딩된 경우에만 갱신하고, 멤버십과 관계없이 카운터를 증감 (키가 없으면 다음 조회 시 DB 값 + 증감분으로 로딩됨)
+    private static final RedisScript<Long> LIKE_APPLY_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then " +
+            "  if ARGV[3] == '1' then redis.call('SADD', KEYS[1], ARGV[2]) " +
+            "  else redis.call('SREM', KEYS[1], ARGV[2]) end " +
+            "end " +
+            "if redis.call('EXISTS', KEYS[2]) == 1 then redis.call('INCRBY', KEYS[2], ARGV[3]) end " +
+            "return 1",
+            Long.class);
+
+    // KEYS: 사용자 Set / ARGV: 표시 멤버, TTL(초), 사용자 ID...
+    private static final RedisScript<Long> LOAD_LIKERS_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('SISMEMBER', KEYS[1], ARGV[1]) == 1 then return 0 end " +
+            "for i = 3, #ARGV do redis.call('SADD', KEYS[1], ARGV[i]) end " +
+            "redis.call('SADD', KEYS[1], ARGV[1]) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[2]) " +
+            "return 1",
+            Long.class);
+
+    // 트렌딩 랭킹용 시간 단위 좋아요 버킷 (key: 접두사 + epoch 기준 시간 번호)
+    static final String TRENDING_BUCKET_PREFIX = RedisKeyLayout.RANKING_TAG + ":trending:bucket:";
+    // 다운타임 후에도 밀린 시간대를 반영할 수 있도록 넉넉히 보존
+    static final Duration TRENDING_BUCKET_TTL = Duration.ofHours(48);
+    // 지난 시간대 버킷을 감쇠하며 누적한 키 (읽기용 랭킹 = 누적본 + 현재 시간대 버킷)
+    static final String TRENDING_BASE_SUFFIX = ":base";
 
     // redis에 검색한 게시물 정보가 없다면 저장
     public void savePostDtoToRedis(PostResponseDTO dbDto) {
@@ -56,99 +136,476 @@ public class PostRedisService {
         Cache cache = cacheManager.getCache(CACHE_POSTS);
 
         if (cache != null) {
-            cache.put(dbDto.getId(), dbDto);
+            cache.put(RedisKeyLayout.postTag(dbDto.getId()), dbDto);
         }
     }
 
-    // 여러 ID의 DTO를 한 번에 조회
+    /**
+     * 여러 DTO 를 파이프라인 1회로 저장 (캐시 예열용)
+     * posts 캐시와 같은 키/TTL 로 저장하고, 그 사이 다른 요청이 채운 값은 덮어쓰지 않음
+     * 로컬 캐시(L1)는 채우지 않고 첫 조회 시 Redis 에서 채워짐
+     */
+    public void savePostDtosIfAbsent(List<PostResponseDTO> dtos) {
+        if (dtos.isEmpty()) {
+            return;
+        }
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                dtos.forEach(dto -> ops.opsForValue().setIfAbsent(
+                        CACHE_POSTS + "::" + RedisKeyLayout.postTag(dto.getId()), dto, POSTS_TTL));
+                return null;
+            }
+        });
+    }
+
+    // 게시글 삭제/수정 시 캐시 제거 (L1 은 pub/sub 으로 전 인스턴스에서 제거됨)
+    public void evictPostDto(Long postId) {
+
+        Cache cache = cacheManager.getCache(CACHE_POSTS);
+
+        if (cache != null) {
+            cache.evict(RedisKeyLayout.postTag(postId));
+        }
+        hotPostCache.invalidateDto(postId);
+    }
+
+    /**
+     * 여러 ID의 DTO를 한 번에 조회 (없으면 null이 들어있음)
+     * 핫 키는 로컬 복제본에서 응답하고, 나머지만 Redis 에서 조회
+     */
     public List<PostResponseDTO> getPostDtoList(List<Long> postIds) {
-        List<String> keys = postIds.stream()
-                .map(id -> CACHE_POSTS + "::" + id)
+        List<PostResponseDTO> result = new ArrayList<>(postIds.size());
+        List<Integer> remoteIndexes = new ArrayList<>();
+        Set<Long> hotIds = new HashSet<>();
+
+        for (int i = 0; i < postIds.size(); i++) {
+            Long postId = postIds.get(i);
+            PostResponseDTO local = null;
+            if (hotPostCache.recordRead(postId)) {
+                hotIds.add(postId);
+                local = hotPostCache.getDto(postId);
+            }
+
+            result.add(local);
+            if (local == null) {
+                remoteIndexes.add(i);
+            }
+        }
+
+        if (remoteIndexes.isEmpty()) {
+            return result;
+        }
+
+        List<String> keys = remoteIndexes.stream()
+                .map(i -> CACHE_POSTS + "::" + RedisKeyLayout.postTag(postIds.get(i)))
                 .toList();
 
-        // MultiGet: 한 번의 통신으로 여러 키 조회
-        List<Object> results = redisTemplate.opsForValue().multiGet(keys);
+        // 슬롯별 MultiGet 을 하나의 파이프라인으로 조회 (단일 노드면 한 번의 통신), 레플리카 우선
+        List<Object> results = RedisKeyLayout.multiGet(replicaReadRouter.readTemplate(), keys);
 
-        // 결과를 DTO 리스트로 변환 (없으면 null이 들어있음)
-        return results.stream()
-                .map(obj -> (PostResponseDTO) obj)
-                .collect(Collectors.toList());
+        for (int i = 0; i < remoteIndexes.size(); i++) {
+            PostResponseDTO dto = (PostResponseDTO) results.get(i);
+            result.set(remoteIndexes.get(i), dto);
+            if (dto != null && hotIds.contains(dto.getId())) {
+                hotPostCache.putDto(dto);
+            }
+        }
+        return result;
     }
 
-    // 키 생성 헬퍼 메서드
-    private String getLikeKey(Long postId) {
-        return CACHE_LIKES + "::" + postId;
+    // 키 생성 헬퍼 메서드 (게시글 키는 모두 같은 해시 태그를 사용)
+    static String getLikeKey(Long postId) {
+        return CACHE_LIKES + "::" + RedisKeyLayout.postTag(postId);
     }
-    private String getCommentKey(Long postId) {
-        return CACHE_COMMENTS + "::" + postId;
+    static String getCommentKey(Long postId) {
+        return CACHE_COMMENTS + "::" + RedisKeyLayout.postTag(postId);
     }
 
-    // 좋아요 수 가져오기
+    // 좋아요 수 가져오기 (핫 키면 로컬 복제본, 방금 바뀐 게시글이 아니면 레플리카에서)
     public Long getLikeCount(Long postId) {
-        String key = getLikeKey(postId);
-        String value = stringRedisTemplate.opsForValue().get(key);
+        // 상세 조회는 좋아요/댓글 수를 함께 읽으므로 조회 기록은 여기서 한 번만
+        hotPostCache.recordRead(postId);
+        PostCounterDTO hot = readHotCounter(postId);
+        if (hot != null) {
+            return hot.getLikeCount();
+        }
+
+        String value = replicaReadRouter.counterReadTemplate(List.of(postId)).opsForValue().get(getLikeKey(postId));
 
         // 캐시 히트
         if (value != null) {
             return Long.parseLong(value);
         }
 
-        // 캐시 미스
-        Long dbCount = likesRepository.countByPostId(postId);
-        stringRedisTemplate.opsForValue().set(key, dbCount.toString());
-        return dbCount;
+        // 캐시 미스 -> 비정규화 컬럼 + 아직 반영되지 않은 증감분
+        return loadCounterGuarded(postId).getLikeCount();
     }
 
-    // 댓글 수 가져오기
+    // 댓글 수 가져오기 (Redis 값을 먼저 읽고 인스턴스 버퍼에 남아있는 증감분을 더함)
     public Long getCommentCount(Long postId) {
-        String key = getCommentKey(postId);
-        String value = stringRedisTemplate.opsForValue().get(key);
+        return bufferedCounterWriter.readConsistent(() ->
+                readCommentCount(postId) + bufferedCounterWriter.pending(BufferedCounterWriter.COMMENT_COUNT, postId));
+    }
+
+    private long readCommentCount(Long postId) {
+        PostCounterDTO hot = readHotCounter(postId);
+        if (hot != null) {
+            return hot.getCommentCount();
+        }
+
+        String value = replicaReadRouter.counterReadTemplate(List.of(postId)).opsForValue().get(getCommentKey(postId));
 
         if (value != null) {
             return Long.parseLong(value);
         }
 
-        Long dbCount = commentRepository.countByPostId(postId);
-        stringRedisTemplate.opsForValue().set(key, dbCount.toString());
-        return dbCount;
+        return loadCounterGuarded(postId).getCommentCount();
+    }
+
+    /**
+     * 핫 키의 카운터를 로컬 복제본에서 조회
+     * 복제본이 없으면 두 카운터를 MGET 1회로 읽어 채움 (같은 슬롯), 핫 키가 아니거나 Redis 캐시 미스면 null
+     */
+    private PostCounterDTO readHotCounter(Long postId) {
+        if (!hotPostCache.isHot(postId)) {
+            return null;
+        }
+
+        PostCounterDTO local = hotPostCache.getCounter(postId);
+        if (local != null) {
+            return local;
+        }
+
+        List<String> values = replicaReadRouter.counterReadTemplate(List.of(postId)).opsForValue()
+                .multiGet(List.of(getLikeKey(postId), getCommentKey(postId)));
+        if (values == null || values.get(0) == null || values.get(1) == null) {
+            return null;
+        }
+
+        PostCounterDTO counter = new PostCounterDTO(postId, Long.parseLong(values.get(0)), Long.parseLong(values.get(1)));
+        hotPostCache.putCounter(counter);
+        return counter;
     }
 
     /**
-     * redis 좋아요, 댓글 개수 증감
+     * 카운터 캐시 미스 로딩
+     * 동시에 미스가 난 요청은 한 번의 DB 조회 결과를 공유하고, 다른 인스턴스가 로딩 중이면 그 결과를 기다림
+     * 좋아요/댓글 수를 함께 읽어 두 키를 같이 채움
+     * 카운터 키는 TTL 이 없어(만료 후 INCR 이 0부터 시작하는 문제 방지) 조기 갱신 대상이 아님
      */
-    public void incrementLikeCount(Long postId) {
-        stringRedisTemplate.opsForValue().increment(getLikeKey(postId));
+    private PostCounterDTO loadCounterGuarded(Long postId) {
+        return stampedeGuard.load(COUNTER_LOAD_KEY_PREFIX + RedisKeyLayout.postTag(postId),
+                () -> readCachedCounter(postId),
+                () -> {
+                    PostCounterDTO counter = loadCounters(List.of(postId)).get(postId);
+                    saveCountersIfAbsent(Map.of(
+                            getLikeKey(postId), counter.getLikeCount().toString(),
+                            getCommentKey(postId), counter.getCommentCount().toString()));
+                    return counter;
+                });
     }
-    public void decrementLikeCount(Long postId) {
-        stringRedisTemplate.opsForValue().decrement(getLikeKey(postId));
+
+    // 두 카운터가 모두 캐시에 있을 때만 반환 (같은 슬롯이므로 MGET 1회, 로딩 결과 확인용이므로 프라이머리)
+    private PostCounterDTO readCachedCounter(Long postId) {
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(List.of(getLikeKey(postId), getCommentKey(postId)));
+        if (values == null || values.get(0) == null || values.get(1) == null) {
+            return null;
+        }
+        return new PostCounterDTO(postId, Long.parseLong(values.get(0)), Long.parseLong(values.get(1)));
     }
-    public void incrementCommentCount(Long postId) {
-        stringRedisTemplate.opsForValue().increment(getCommentKey(postId));
+
+    /**
+     * 여러 게시글의 좋아요/댓글 수를 한 번에 채워넣기
+     * Redis 조회는 슬롯별 MGET 파이프라인 1회, 캐시 미스는 post 테이블 PK 조회 1회, 재저장은 파이프라인 1회로 처리
+     * 핫 키는 로컬 복제본을 먼저 사용 (조회 기록은 DTO 조회에서 이미 했으므로 여기서는 하지 않음)
+     */
+    public void fillCounts(List<PostResponseDTO> dtos) {
+        List<Long> postIds = dtos.stream()
+                .filter(Objects::nonNull)
+                .map(PostResponseDTO::getId)
+                .distinct()
+                .toList();
+
+        if (postIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, PostCounterDTO> counters = bufferedCounterWriter.readConsistent(() -> readCounters(postIds));
+
+        dtos.forEach(dto -> {
+            if (dto != null) {
+                PostCounterDTO counter = counters.get(dto.getId());
+                dto.setLikeCount(counter == null ? 0L : counter.getLikeCount());
+                dto.setCommentCount(counter == null ? 0L : counter.getCommentCount());
+            }
+        });
     }
-    public void decrementCommentCount(Long postId) {
-        stringRedisTemplate.opsForValue().decrement(getCommentKey(postId));
+
+    // 핫 키 로컬 복제본 -> Redis -> DB 순으로 읽은 카운터에, Redis 조회 후 읽은 버퍼 댓글 수 증감분을 더함
+    private Map<Long, PostCounterDTO> readCounters(List<Long> postIds) {
+        Map<Long, Long> likeCounts = new HashMap<>();
+        Map<Long, Long> commentCounts = new HashMap<>();
+        Set<Long> missIds = new HashSet<>();
+
+        List<Long> remoteIds = new ArrayList<>(postIds.size());
+        Set<Long> hotIds = new HashSet<>();
+        for (Long postId : postIds) {
+            PostCounterDTO local = null;
+            if (hotPostCache.isHot(postId)) {
+                hotIds.add(postId);
+                local = hotPostCache.getCounter(postId);
+            }
+
+            if (local != null) {
+                likeCounts.put(postId, local.getLikeCount());
+                commentCounts.put(postId, local.getCommentCount());
+            } else {
+                remoteIds.add(postId);
+            }
+        }
+
+        if (!remoteIds.isEmpty()) {
+            List<String> keys = new ArrayList<>(remoteIds.size() * 2);
+            remoteIds.forEach(id -> keys.add(getLikeKey(id)));
+            remoteIds.forEach(id -> keys.add(getCommentKey(id)));
+
+            // MultiGet: 좋아요 키 n개 + 댓글 키 n개를 슬롯별로 묶어 한 번의 파이프라인으로 조회
+            List<String> values = RedisKeyLayout.multiGet(replicaReadRouter.counterReadTemplate(remoteIds), keys);
+
+            for (int i = 0; i < remoteIds.size(); i++) {
+                Long postId = remoteIds.get(i);
+                String like = values == null ? null : values.get(i);
+                String comment = values == null ? null : values.get(remoteIds.size() + i);
+                collectCount(postId, like, likeCounts, missIds);
+                collectCount(postId, comment, commentCounts, missIds);
+
+                if (like != null && comment != null && hotIds.contains(postId)) {
+                    hotPostCache.putCounter(new PostCounterDTO(postId, Long.parseLong(like), Long.parseLong(comment)));
+                }
+            }
+        }
+
+        // 캐시 미스 -> DB 컬럼 조회 후 Redis에 채워넣기
+        if (!missIds.isEmpty()) {
+            Map<String, String> missedCounters = new HashMap<>();
+
+            loadCounters(missIds).forEach((postId, counter) -> {
+                if (!likeCounts.containsKey(postId)) {
+                    likeCounts.put(postId, counter.getLikeCount());
+                    missedCounters.put(getLikeKey(postId), counter.getLikeCount().toString());
+                }
+                if (!commentCounts.containsKey(postId)) {
+                    commentCounts.put(postId, counter.getCommentCount());
+                    missedCounters.put(getCommentKey(postId), counter.getCommentCount().toString());
+                }
+            });
+
+            saveCountersIfAbsent(missedCounters);
+        }
+
+        Map<Long, PostCounterDTO> counters = new HashMap<>();
+        postIds.forEach(postId -> counters.put(postId, new PostCounterDTO(postId,
+                likeCounts.getOrDefault(postId, 0L),
+                commentCounts.getOrDefault(postId, 0L) + bufferedCounterWriter.pending(BufferedCounterWriter.COMMENT_COUNT, postId))));
+        return counters;
+    }
+
+    private void collectCount(Long postId, String value, Map<Long, Long> counts, Set<Long> missIds) {
+        if (value != null) {
+            counts.put(postId, Long.parseLong(value));
+        } else {
+            missIds.add(postId);
+        }
     }
 
     /**
-     * 랭킹 관련 점수 증감
+     * DB 비정규화 컬럼 값에 Redis에 쌓여 있는(아직 DB에 반영되지 않은) 증감분을 더한 카운터
+     * 존재하지 않는 게시글은 0개로 채움
+     * 기존 게시글의 컬럼 채우기가 끝나기 전에는 likes/comment 행 수를 집계해서 사용
      */
-    public void incrementLikeRanking(Long postId) {
-        // ZSet에 해당 postId의 점수를 1 증가시킴 (없으면 자동 생성)
-        redisTemplate.opsForZSet().incrementScore(RANKING_KEY, postId.toString(), 1);
+    private Map<Long, PostCounterDTO> loadCounters(Collection<Long> postIds) {
+        if (!postCounterFlushService.isBackfilled()) {
+            return countRows(postIds);
+        }
+
+        Map<Long, PostCounterDTO> stored = new HashMap<>();
+        postRepository.findCountersByIds(postIds)
+                .forEach(counter -> stored.put(counter.getPostId(), counter));
+
+        List<Long> orderedIds = new ArrayList<>(postIds);
+        CounterDeltas.Pending pending = CounterDeltas.read(stringRedisTemplate, orderedIds);
+
+        Map<Long, PostCounterDTO> result = new HashMap<>();
+        for (int i = 0; i < orderedIds.size(); i++) {
+            Long postId = orderedIds.get(i);
+            PostCounterDTO counter = stored.get(postId);
+            long likeCount = (counter == null ? 0L : counter.getLikeCount())
+                    + pending.likes()[i];
+            long commentCount = (counter == null ? 0L : counter.getCommentCount())
+                    + pending.comments()[i];
+            result.put(postId, new PostCounterDTO(postId, Math.max(likeCount, 0L), Math.max(commentCount, 0L)));
+        }
+        return result;
     }
-    public void decrementLikeRanking(Long postId) {
-        redisTemplate.opsForZSet().incrementScore(RANKING_KEY, postId.toString(), -1);
+
+    // 행 수 집계 (게시글별 그룹 쿼리 2회), 행에는 이미 모든 변경이 반영되어 있으므로 증감분을 더하지 않음
+    private Map<Long, PostCounterDTO> countRows(Collection<Long> postIds) {
+        Map<Long, Long> likeCounts = new HashMap<>();
+        likesRepository.countGroupByPostIds(postIds).forEach(count -> likeCounts.put(count.getPostId(), count.getCount()));
+        Map<Long, Long> commentCounts = new HashMap<>();
+        commentRepository.countGroupByPostIds(postIds).forEach(count -> commentCounts.put(count.getPostId(), count.getCount()));
+
+        Map<Long, PostCounterDTO> result = new HashMap<>();
+        postIds.forEach(postId -> result.put(postId, new PostCounterDTO(postId,
+                likeCounts.getOrDefault(postId, 0L), commentCounts.getOrDefault(postId, 0L))));
+        return result;
+    }
+
+    // 파이프라인으로 한 번에 저장, 그 사이 증감된 카운터는 덮어쓰지 않도록 SETNX 사용
+    private void saveCountersIfAbsent(Map<String, String> counters) {
+        if (counters.isEmpty()) {
+            return;
+        }
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            counters.forEach(stringConnection::setNX);
+            return null;
+        });
+    }
+
+    /**
+     * 좋아요 토글
+     * 1. Lua 스크립트로 게시글의 좋아요 사용자 Set 추가/제거와 표시용 카운터 증감을 원자적으로 처리 (이미 같은 상태면 아무것도 바꾸지 않음)
+     * 2. 상태가 바뀐 경우에만 DB 반영 대기 증감분, 누적 랭킹, 현재 시간대 트렌딩 버킷을 파이프라인으로 갱신
+     *    (전역 키는 게시글 키와 슬롯이 달라 클러스터에서 한 스크립트로 묶을 수 없음, 랭킹 오차는 정합성 보정/초기화로 복구)
+     * 사용자 Set 이 아직 로딩되지 않았으면 likerLoader(DB) 로 채운 뒤 다시 실행
+     *
+     * @return 상태가 실제로 바뀌었는지 여부 (false 면 이미 좋아요/취소된 상태이므로 DB 쓰기 불필요)
+     */
+    public boolean toggleLike(Long postId, Long userId, boolean like, Supplier<Collection<Long>> likerLoader) {
+        Long result = executeLikeToggle(postId, userId, like);
+
+        if (result != null && result == LIKERS_NOT_LOADED) {
+            loadLikers(postId, likerLoader.get());
+            result = executeLikeToggle(postId, userId, like);
+        }
+
+        boolean changed = result != null && result == 1L;
+        if (changed) {
+            applyLikeAggregates(postId, like ? 1 : -1);
+            replicaReadRouter.markWritten(postId);
+            hotPostCache.invalidateCounter(postId);
+        }
+        return changed;
+    }
+
+    /**
+     * DB 에서 좋아요 행이 실제로 추가/삭제된 뒤 호출 (동기 모드)
+     * 행 수로 이미 상태 변경이 확인되었으므로 사용자 Set 멤버십으로 다시 판단하지 않고 1건 증감을 그대로 반영
+     * (Set 이 만료된 상태에서 DB 로 다시 채우면 방금 쓴 행이 이미 포함되어 토글이 '변경 없음' 이 되는 문제 방지)
+     */
+    public void applyLikeChange(Long postId, Long userId, boolean like) {
+        stringRedisTemplate.execute(LIKE_APPLY_SCRIPT, List.of(getLikersKey(postId), getLikeKey(postId)),
+                LIKERS_LOADED_MARKER,
+                userId.toString(),
+                like ? "1" : "-1");
+
+        applyLikeAggregates(postId, like ? 1 : -1);
+        replicaReadRouter.markWritten(postId);
+        hotPostCache.invalidateCounter(postId);
+    }
+
+    private Long executeLikeToggle(Long postId, Long userId, boolean like) {
+        return stringRedisTemplate.execute(LIKE_TOGGLE_SCRIPT, List.of(getLikersKey(postId), getLikeKey(postId)),
+                LIKERS_LOADED_MARKER,
+                userId.toString(),
+                like ? "1" : "-1");
+    }
+
+    // 증감분 해시({counterDelta}), 누적 랭킹/트렌딩 버킷({ranking}) 을 한 번의 파이프라인으로 갱신
+    private void applyLikeAggregates(Long postId, int delta) {
+        String member = getRankingMember(postId);
+        String bucketKey = getTrendingBucketKey(currentEpochHour());
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hIncrBy(CounterDeltas.LIKE_DELTA_KEY, postId.toString(), delta);
+            stringConnection.zIncrBy(RANKING_KEY, delta, member);
+            stringConnection.zIncrBy(bucketKey, delta, member);
+            stringConnection.expire(bucketKey, TRENDING_BUCKET_TTL.getSeconds());
+            return null;
+        });
     }
 
-    // 랭킹에서 삭제
+    // 표시 멤버가 없을 때만 DB 에서 읽은 사용자로 채움 (그 사이 스크립트로 반영된 토글을 오래된 목록으로 덮어쓰지 않음)
+    private void loadLikers(Long postId, Collection<Long> userIds) {
+        List<String> args = new ArrayList<>();
+        args.add(LIKERS_LOADED_MARKER);
+        args.add(Long.toString(LIKERS_TTL.getSeconds()));
+        userIds.forEach(userId -> args.add(userId.toString()));
+
+        stringRedisTemplate.execute(LOAD_LIKERS_SCRIPT, List.of(getLikersKey(postId)), args.toArray());
+    }
+
+    static String getLikersKey(Long postId) {
+        return LIKERS_PREFIX + RedisKeyLayout.postTag(postId);
+    }
+
+    // 랭킹 ZSet 멤버는 RedisTemplate 값 직렬화(JSON 문자열) 형식으로 저장되어 있으므로 문자열 명령에도 같은 형식으로 전달
+    @SuppressWarnings("unchecked")
+    private String getRankingMember(Long postId) {
+        RedisSerializer<Object> serializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        return new String(serializer.serialize(postId.toString()), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * redis 댓글 개수 증감
+     * 바로 Redis 에 쓰지 않고 인스턴스 버퍼에 모아, 게시글별 순 증감분만 수 ms 주기로 한 번의 파이프라인에 반영
+     * (표시용 카운터, DB 반영 대기 증감분 해시를 함께 갱신)
+     */
+    public void incrementCommentCount(Long postId) {
+        bufferedCounterWriter.add(BufferedCounterWriter.COMMENT_COUNT, postId, 1);
+        replicaReadRouter.markWritten(postId);
+        hotPostCache.invalidateCounter(postId);
+    }
+    public void decrementCommentCount(Long postId) {
+        bufferedCounterWriter.add(BufferedCounterWriter.COMMENT_COUNT, postId, -1);
+        replicaReadRouter.markWritten(postId);
+        hotPostCache.invalidateCounter(postId);
+    }
+
+    // 삭제된 게시글은 누적/트렌딩 랭킹과 현재 시간대 버킷에서 모두 제거
     public void removeRanking(Long postId) {
-        redisTemplate.opsForZSet().remove(RANKING_KEY, postId.toString());
+        String member = postId.toString();
+        List<String> keys = new ArrayList<>();
+        for (PopularRanking ranking : PopularRanking.values()) {
+            keys.add(ranking.getRankingKey());
+            if (ranking.isTrending()) {
+                keys.add(getTrendingBaseKey(ranking));
+            }
+        }
+        keys.add(getTrendingBucketKey(currentEpochHour()));
+
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                keys.forEach(key -> ops.opsForZSet().remove(key, member));
+                return null;
+            }
+        });
     }
 
-    // 인기 게시물 ID 목록 가져오기 (Top N)
-    public List<Long> getTopLikedPostIds(int limit) {
+    // 인기 게시물 ID 목록 가져오기 (Top N, 랭킹 종류와 관계없이 ZSet 범위 조회 1회)
+    public List<Long> getTopPostIds(PopularRanking ranking, int limit) {
         // 점수가 높은 순으로 가져옴
-        Set<Object> topPostIds = redisTemplate.opsForZSet().reverseRange(RANKING_KEY, 0, limit - 1);
+        Set<Object> topPostIds = replicaReadRouter.readTemplate().opsForZSet().reverseRange(ranking.getRankingKey(), 0, limit - 1);
 
         if (topPostIds == null || topPostIds.isEmpty()) {
             return Collections.emptyList();
@@ -160,27 +617,64 @@ public class PostRedisService {
                 .collect(Collectors.toList());
     }
 
-    // 실시간 크롤링된 게시물 랭킹에 반영
+    // 트렌딩 집계 키 (시간 단위 버킷, 감쇠 누적본)
+    static String getTrendingBucketKey(long epochHour) {
+        return TRENDING_BUCKET_PREFIX + epochHour;
+    }
+    static String getTrendingBaseKey(PopularRanking ranking) {
+        return ranking.getRankingKey() + TRENDING_BASE_SUFFIX;
+    }
+    static long currentEpochHour() {
+        return System.currentTimeMillis() / Duration.ofHours(1).toMillis();
+    }
+
+    // 실시간 크롤링된 게시물 랭킹에 반영 (여러 멤버를 ZADD 1회로 추가)
     public void addRankingBatch(List<Post> posts) {
         if (posts == null || posts.isEmpty()) {
             return;
         }
-        for (Post post : posts) {
-            redisTemplate.opsForZSet().add(RANKING_KEY, post.getId().toString(), 0.0);
-        }
 
+        Set<ZSetOperations.TypedTuple<Object>> tuples = new HashSet<>();
+        posts.forEach(post -> tuples.add(new DefaultTypedTuple<>(post.getId().toString(), 0.0)));
+        redisTemplate.opsForZSet().add(RANKING_KEY, tuples);
+    }
+
+    /**
+     * 랭킹 초기화 관련
+     * 초기화 중에는 임시 키에 쌓고, 완료 시 실시간으로 증감된 랭킹과 합친 뒤 완료 표시를 남김
+     * (중간에 실패해도 완료 표시가 없으므로 다음 기동 시 처음부터 다시 초기화)
+     */
+    public boolean isRankingBootstrapped() {
+        return Boolean.TRUE.equals(stringRedisTemplate.hasKey(RANKING_BOOTSTRAPPED_KEY));
     }
 
-    // 랭킹이 비어있을 때 DB 기반으로 초기화하는 메서드
-    public void initRankingIfEmpty() {
+    public void resetRankingBootstrap() {
+        redisTemplate.delete(RANKING_BOOTSTRAP_KEY);
+    }
 
-        if (Boolean.TRUE.equals(redisTemplate.hasKey(RANKING_KEY))) {
+    public void addBootstrapRankingBatch(Map<Long, Long> likeCounts) {
+        if (likeCounts.isEmpty()) {
             return;
         }
 
-        List<Post> posts = postRepository.findAll();
-        for (Post post : posts) {
-            redisTemplate.opsForZSet().add(RANKING_KEY, post.getId().toString(), likesRepository.countByPostId(post.getId()));
-        }
+        Set<ZSetOperations.TypedTuple<Object>> tuples = new HashSet<>();
+        likeCounts.forEach((postId, count) -> tuples.add(new DefaultTypedTuple<>(postId.toString(), count.doubleValue())));
+        redisTemplate.opsForZSet().add(RANKING_BOOTSTRAP_KEY, tuples);
+    }
+
+    // 초기화 중에 들어온 좋아요는 DB 집계에도 포함되었을 수 있으므로 합산 대신 큰 값을 사용
+    public void completeRankingBootstrap() {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.opsForZSet().unionAndStore(RANKING_KEY, List.of(RANKING_BOOTSTRAP_KEY), RANKING_KEY,
+                        Aggregate.MAX, Weights.of(1, 1));
+                ops.delete(RANKING_BOOTSTRAP_KEY);
+                return null;
+            }
+        });
+        stringRedisTemplate.opsForValue().set(RANKING_BOOTSTRAPPED_KEY, "1");
     }
 }
@@ -0,0 +1,107 @@
+package com.ureka.techpost.domain.post.service;
+
+import com.ureka.techpost.global.config.cache.RedisKeyLayout;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * @file PostSearchCountService.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 게시글 검색 조건(키워드, 출처)별 전체 개수를 Redis에 캐싱하여 페이지마다 count 쿼리를 반복하지 않도록 하는 서비스 클래스입니다.
+ */
+
+@Service
+@RequiredArgsConstructor
+public class PostSearchCountService {
+
+    // 세대 번호와 개수 캐시를 한 스크립트/MGET 으로 다루므로 같은 해시 태그 사용
+    private static final String COUNT_KEY_PREFIX = RedisKeyLayout.SEARCH_COUNT_TAG + "::";
+    private static final String ALL_KEY = COUNT_KEY_PREFIX + "all";
+    // 게시글이 추가/삭제될 때마다 증가하는 세대 번호, 캐시 값은 "세대:개수" 형태로 저장
+    private static final String GENERATION_KEY = RedisKeyLayout.SEARCH_COUNT_TAG + ":generation";
+
+    // 세대 번호를 올리면서, 필터가 없는 전체 개수는 버리지 않고 delta 만큼 보정
+    private static final RedisScript<Long> BUMP_GENERATION_SCRIPT = new DefaultRedisScript<>(
+            "local old = redis.call('GET', KEYS[1]) or '0' " +
+            "local new = redis.call('INCR', KEYS[1]) " +
+            "local v = redis.call('GET', KEYS[2]) " +
+            "if v then " +
+            "  local sep = string.find(v, ':', 1, true) " +
+            "  if sep and string.sub(v, 1, sep - 1) == old then " +
+            "    local count = tonumber(string.sub(v, sep + 1)) + tonumber(ARGV[1]) " +
+            "    local ttl = redis.call('PTTL', KEYS[2]) " +
+            "    if ttl > 0 then redis.call('SET', KEYS[2], new .. ':' .. count, 'PX', ttl) " +
+            "    else redis.call('SET', KEYS[2], new .. ':' .. count) end " +
+            "  end " +
+            "end " +
+            "return new",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 추정값 허용 시 최대 이만큼 오래된 개수까지 사용
+    @Value("${search.count.ttl:10m}")
+    private Duration ttl;
+
+    /**
+     * 캐시된 개수를 반환하고, 없으면 counter 로 집계 후 저장
+     * approximate=false : 게시글 변경(세대 변경) 이후의 캐시는 사용하지 않음
+     * approximate=true  : 세대가 달라도 TTL 안의 캐시 값을 그대로 사용
+     */
+    public SearchCount getTotal(String keyword, String sourceName, boolean approximate, LongSupplier counter) {
+        String key = countKey(keyword, sourceName);
+
+        // 세대 번호와 캐시 값을 한 번의 통신으로 조회
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(List.of(GENERATION_KEY, key));
+        String generation = values == null || values.get(0) == null ? "0" : values.get(0);
+        String cached = values == null ? null : values.get(1);
+
+        if (cached != null) {
+            int sep = cached.indexOf(':');
+            boolean sameGeneration = cached.substring(0, sep).equals(generation);
+            if (sameGeneration || approximate) {
+                return new SearchCount(Long.parseLong(cached.substring(sep + 1)), !sameGeneration);
+            }
+        }
+
+        long total = counter.getAsLong();
+        stringRedisTemplate.opsForValue().set(key, generation + ":" + total, ttl);
+        return new SearchCount(total, false);
+    }
+
+    /**
+     * 게시글이 추가(delta > 0)/삭제(delta < 0) 되었을 때 호출
+     */
+    public void onPostsChanged(long delta) {
+        stringRedisTemplate.execute(BUMP_GENERATION_SCRIPT, List.of(GENERATION_KEY, ALL_KEY), String.valueOf(delta));
+    }
+
+    // 키워드가 길거나 특수문자가 있어도 키 길이가 일정하도록 해시 사용
+    private String countKey(String keyword, String sourceName) {
+        if (!StringUtils.hasText(keyword) && !StringUtils.hasText(sourceName)) {
+            return ALL_KEY;
+        }
+        String condition = nullToEmpty(sourceName) + "\u0000" + nullToEmpty(keyword);
+        return COUNT_KEY_PREFIX + DigestUtils.md5DigestAsHex(condition.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String nullToEmpty(String value) {
+        return StringUtils.hasText(value) ? value : "";
+    }
+
+    public record SearchCount(long total, boolean approximate) {
+    }
+}
@@ -2,21 +2,27 @@ package com.ureka.techpost.domain.post.service;
 
 import com.ureka.techpost.domain.auth.dto.CustomUserDetails;
 import com.ureka.techpost.domain.likes.entity.Likes;
-import com.ureka.techpost.domain.likes.repository.LikesRepository;
+import com.ureka.techpost.domain.likes.service.LikesRedisService;
+import com.ureka.techpost.domain.post.dto.PostCursorResponseDTO;
+import com.ureka.techpost.domain.post.dto.PostPageDTO;
 import com.ureka.techpost.domain.post.dto.PostResponseDTO;
 import com.ureka.techpost.domain.post.dto.PostRequestDTO;
 import com.ureka.techpost.domain.post.entity.Post;
+import com.ureka.techpost.domain.post.enums.PopularRanking;
 import com.ureka.techpost.domain.post.repository.PostRepository;
+import com.ureka.techpost.domain.post.service.search.PostSearchIndex;
 import com.ureka.techpost.global.exception.CustomException;
 import com.ureka.techpost.global.exception.ErrorCode;
+import com.ureka.techpost.global.utils.CursorUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * @file PostService.java
@@ -32,23 +38,33 @@ public class PostService {
 
     private final PostRepository postRepository;
     private final PostRedisService postRedisService;
-    private final LikesRepository likesRepository;
+    private final LikesRedisService likesRedisService;
     private final PostCacheService postCacheService;
+    private final PopularPostService popularPostService;
+    private final PostSearchIndex postSearchIndex;
+    private final PostSearchCountService postSearchCountService;
 
     public PostResponseDTO findById(Long id, CustomUserDetails userDetails) {
 
+        // 아직 생성되지 않은 ID 는 캐시/DB 조회 없이 바로 거절
+        if (!postCacheService.mightExist(id)) {
+            throw new CustomException(ErrorCode.POST_NOT_FOUND);
+        }
+
         // 게시글 기본 정보 가져오기
-        // 캐시 히트 -> redis에서 정보 반환
+        // 캐시 히트 -> redis에서 정보 반환 (삭제된 게시글은 음성 캐시)
         // 캐시 미스 -> DB에서 정보 반환
-        PostResponseDTO dto = postCacheService.getPostBaseDto(id);
+        PostResponseDTO dto = postCacheService.getPostBaseDto(id)
+                .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
 
         // Redis에 있으면 쓰고, 없으면 DB에서 가져와서 캐싱
         dto.setLikeCount(postRedisService.getLikeCount(id));
         dto.setCommentCount(postRedisService.getCommentCount(id));
 
+        // 좋아요 여부는 사용자별 Redis Set 에서 확인
         if (userDetails != null) {
             Long userId = userDetails.getUser().getUserId();
-            boolean liked = likesRepository.existsByUserUserIdAndPostId(userId, id);
+            boolean liked = likesRedisService.isLiked(userId, id);
             dto.setIsLiked(liked);
         } else {
             dto.setIsLiked(false);
@@ -57,16 +73,90 @@ public class PostService {
         return dto;
     }
 
-    public Page<PostResponseDTO> search(String keyword, String publisher, Pageable pageable){
+    public Page<PostResponseDTO> search(String keyword, String publisher, Pageable pageable, boolean approximate, CustomUserDetails userDetails){
 
-        // DB에서 검색 조건에 맞는 ID 리스트만 조회
-        Page<Long> idPage = postRepository.searchIds(keyword, publisher, pageable);
-        List<Long> ids = idPage.getContent();
+        SearchIdPage idPage = searchIds(keyword, publisher, pageable, approximate);
+        List<Long> ids = idPage.ids();
 
         if (ids.isEmpty()) {
             return Page.empty(pageable);
         }
 
+        List<PostResponseDTO> dtos = hydrate(ids);
+        applyLiked(dtos, userDetails);
+
+        // Page 객체로 다시 포장해서 반환
+        return new PostPageDTO(dtos, pageable, idPage.total(), idPage.totalApproximate());
+    }
+
+    /**
+     * 키워드 검색은 검색 색인에서, 그 외(전체 목록/출처 필터)는 DB에서 ID 리스트만 조회
+     * DB 조회 시 전체 개수는 캐시된 값을 사용 (색인 검색은 개수가 함께 계산됨)
+     */
+    private SearchIdPage searchIds(String keyword, String publisher, Pageable pageable, boolean approximate) {
+        if (StringUtils.hasText(keyword) && postSearchIndex.isReady()) {
+            Page<Long> page = postSearchIndex.search(keyword, publisher, pageable);
+            return new SearchIdPage(page.getContent(), page.getTotalElements(), false);
+        }
+
+        List<Long> ids = postRepository.searchIdList(keyword, publisher, pageable);
+
+        // 첫 페이지가 다 차지 않았거나 마지막 페이지면 조회 결과만으로 전체 개수를 알 수 있음 (PageableExecutionUtils 와 같은 기준)
+        if ((pageable.getOffset() == 0 || !ids.isEmpty()) && ids.size() < pageable.getPageSize()) {
+            return new SearchIdPage(ids, pageable.getOffset() + ids.size(), false);
+        }
+
+        PostSearchCountService.SearchCount count = postSearchCountService.getTotal(
+                keyword, publisher, approximate, () -> postRepository.countSearch(keyword, publisher));
+        return new SearchIdPage(ids, count.total(), count.approximate());
+    }
+
+    // 검색된 페이지의 ID 와 전체 개수 (개수가 캐시된 추정값인지 함께 반환)
+    private record SearchIdPage(List<Long> ids, long total, boolean totalApproximate) {
+    }
+
+    /**
+     * 커서 기반 목록 조회 (무한 스크롤용)
+     * 다음 페이지 존재 여부는 size + 1 개를 조회해서 판단하므로 count 쿼리를 실행하지 않음
+     */
+    public PostCursorResponseDTO searchByCursor(String keyword, String publisher, String cursor, int size, CustomUserDetails userDetails) {
+
+        Long lastId = CursorUtil.decode(cursor);
+
+        List<Long> ids = (StringUtils.hasText(keyword) && postSearchIndex.isReady())
+                ? postSearchIndex.searchBefore(keyword, publisher, lastId, size + 1)
+                : postRepository.searchIdsByCursor(keyword, publisher, lastId, size + 1);
+
+        boolean hasNext = ids.size() > size;
+        List<Long> pageIds = hasNext ? ids.subList(0, size) : ids;
+
+        if (pageIds.isEmpty()) {
+            return new PostCursorResponseDTO(List.of(), null, false);
+        }
+
+        String nextCursor = hasNext ? CursorUtil.encode(pageIds.get(pageIds.size() - 1)) : null;
+
+        List<PostResponseDTO> dtos = hydrate(pageIds);
+        applyLiked(dtos, userDetails);
+
+        return new PostCursorResponseDTO(dtos, nextCursor, hasNext);
+    }
+
+    // 목록의 좋아요 여부를 한 번에 채우기 (비로그인은 모두 false)
+    private void applyLiked(List<PostResponseDTO> dtos, CustomUserDetails userDetails) {
+        if (userDetails == null || dtos.isEmpty()) {
+            dtos.forEach(dto -> dto.setIsLiked(false));
+            return;
+        }
+
+        List<Long> postIds = dtos.stream().map(PostResponseDTO::getId).toList();
+        Set<Long> likedPostIds = likesRedisService.getLikedPostIds(userDetails.getUser().getUserId(), postIds);
+        dtos.forEach(dto -> dto.setIsLiked(likedPostIds.contains(dto.getId())));
+    }
+
+    // ID 순서를 유지하면서 DTO 와 좋아요/댓글 수 채우기
+    private List<PostResponseDTO> hydrate(List<Long> ids) {
+
         // redis에 개싱된 데이터 조회
         List<PostResponseDTO> cachedDtos = postRedisService.getPostDtoList(ids);
 
@@ -106,31 +196,27 @@ public class PostService {
             });
         }
 
-        // 실시간 좋아요/댓글 최신화
-        cachedDtos.forEach(dto -> {
-            if (dto != null) {
-                dto.setCommentCount(postRedisService.getCommentCount(dto.getId()));
-                dto.setLikeCount(postRedisService.getLikeCount(dto.getId()));
+        // DB 에도 없는 ID 는 이미 삭제된 게시글이므로 색인에서 제거
+        List<PostResponseDTO> dtos = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i++) {
+            if (cachedDtos.get(i) == null) {
+                postSearchIndex.remove(ids.get(i));
+            } else {
+                dtos.add(cachedDtos.get(i));
             }
-        });
-
-        // Page 객체로 다시 포장해서 반환
-        return new PageImpl<>(cachedDtos, pageable, idPage.getTotalElements());
-    }
+        }
 
-    public List<PostResponseDTO> getPopularPosts() {
-        List<Long> topIds = postRedisService.getTopLikedPostIds(10);
-        List<PostResponseDTO> result = new ArrayList<>();
+        // 실시간 좋아요/댓글 최신화 (페이지 단위로 한 번에 조회)
+        postRedisService.fillCounts(dtos);
 
-        for (Long id : topIds) {
-            try {
-                result.add(this.findById(id, null));
-            } catch (CustomException e) {
-                postRedisService.removeRanking(id);
-            }
-        }
+        return dtos;
+    }
 
-        return result;
+    // 미리 조립된 인기글 스냅샷을 한 번에 조회
+    public List<PostResponseDTO> getPopularPosts(PopularRanking ranking, CustomUserDetails userDetails) {
+        List<PostResponseDTO> dtos = popularPostService.getPopularPosts(ranking);
+        applyLiked(dtos, userDetails);
+        return dtos;
     }
 
     public void save(PostRequestDTO postRequestDTO, CustomUserDetails userDetails) {
@@ -143,7 +229,7 @@ public class PostService {
             throw new CustomException(ErrorCode.POST_NOT_FOUND);
         }
 
-        postRepository.save(Post.builder()
+        Post post = postRepository.save(Post.builder()
                 .title(postRequestDTO.getTitle())
                 .summary(postRequestDTO.getSummary())
                 .originalUrl(postRequestDTO.getOriginalUrl())
@@ -152,6 +238,13 @@ public class PostService {
                 .sourceName(postRequestDTO.getSourceName())
                 .thumbnailUrl(postRequestDTO.getThumbnailUrl())
                 .build());
+
+        // 같은 ID 로 남아있을 수 있는 음성 캐시 제거
+        postCacheService.onPostCreated(post.getId());
+        postRedisService.evictPostDto(post.getId());
+
+        postSearchIndex.add(post);
+        postSearchCountService.onPostsChanged(1);
     }
 
     public void deletePost(Long postId, CustomUserDetails userDetails) {
@@ -164,6 +257,10 @@ public class PostService {
                 .orElseThrow(() -> new CustomException(ErrorCode.POST_NOT_FOUND));
 
         postRepository.delete(post);
+
+        postRedisService.evictPostDto(postId);
+        postSearchIndex.remove(postId);
+        postSearchCountService.onPostsChanged(-1);
     }
 
 }
@@ -0,0 +1,210 @@
+package com.ureka.techpost.domain.post.service;
+
+import com.ureka.techpost.domain.likes.repository.LikesRepository;
+import com.ureka.techpost.domain.post.dto.PostCountDTO;
+import com.ureka.techpost.domain.post.repository.PostRepository;
+import com.ureka.techpost.global.utils.RedisLock;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * @file RankingBootstrapService.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description Redis 좋아요 랭킹이 비어있을 때 게시글 ID 를 배치 단위로 읽어 좋아요 수를 집계하고, 백그라운드에서 랭킹을 채우는 서비스 클래스입니다.
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RankingBootstrapService {
+
+    // 여러 인스턴스가 동시에 기동해도 한 곳에서만 초기화
+    private static final String LOCK_KEY = "ranking:likes:bootstrap:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(10);
+    // 다른 인스턴스가 초기화 중일 때 완료 여부 확인 주기
+    private static final long WAIT_INTERVAL_MS = 5000;
+
+    public enum State { PENDING, RUNNING, WAITING, COMPLETED, FAILED }
+
+    private final PostRepository postRepository;
+    private final LikesRepository likesRepository;
+    private final PostRedisService postRedisService;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheWarmupService cacheWarmupService;
+
+    @Value("${ranking.bootstrap.batch-size:1000}")
+    private int batchSize;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.PENDING);
+    private final AtomicLong processed = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private volatile String failure;
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "ranking-bootstrap");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // 종료 시 대기/초기화 중인 작업 중단 (잠금은 TTL 로 만료되고 다른 인스턴스가 이어서 초기화)
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    // 기동을 막지 않도록 별도 스레드에서 실행
+    public void startAsync() {
+        if (!state.compareAndSet(State.PENDING, State.RUNNING)) {
+            return;
+        }
+
+        executor.execute(() -> {
+            try {
+                run();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                failure = e.getMessage();
+                state.set(State.FAILED);
+                log.error("랭킹 초기화 실패", e);
+            }
+            // 랭킹이 채워진 뒤 상위/최신 게시글 캐시 예열 (초기화 실패 시에도 최신 게시글은 예열)
+            cacheWarmupService.warmAsync("startup");
+        });
+    }
+
+    private void run() throws InterruptedException {
+        if (postRedisService.isRankingBootstrapped()) {
+            state.set(State.COMPLETED);
+            return;
+        }
+
+        while (!bootstrapIfLockAcquired()) {
+            if (!waitForOtherInstance()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 잠금을 얻었을 때만 초기화
+     *
+     * @return 초기화를 끝까지 진행했으면 true (잠금을 얻지 못했거나 도중에 잃었으면 false)
+     */
+    private boolean bootstrapIfLockAcquired() {
+        String token = RedisLock.tryAcquire(stringRedisTemplate, LOCK_KEY, LOCK_TTL);
+        if (token == null) {
+            return false;
+        }
+
+        state.set(State.RUNNING);
+        try {
+            return bootstrap(token);
+        } finally {
+            RedisLock.release(stringRedisTemplate, LOCK_KEY, token);
+        }
+    }
+
+    /**
+     * 1. ID 만 배치 단위로 읽기 (엔티티 전체를 메모리에 올리지 않음)
+     * 2. 배치마다 좋아요 수를 group by 쿼리 1회로 집계
+     * 3. 배치마다 여러 멤버를 ZADD 1회로 임시 키에 추가, 완료 시 실제 랭킹과 합침
+     * 비정규화 컬럼 대신 좋아요 테이블을 집계하는 이유: Redis 가 비어있으면 DB 에 아직 반영되지 않은 증감분도 함께 사라졌기 때문
+     */
+    private boolean bootstrap(String token) {
+        long startedAt = System.currentTimeMillis();
+        total.set(postRepository.count());
+        postRedisService.resetRankingBootstrap();
+        log.info("랭킹 초기화 시작 - 게시글: {}건", total.get());
+
+        long lastId = 0L;
+        List<Long> ids;
+        do {
+            // 잠금 TTL 이 지나 다른 인스턴스가 초기화를 시작했으면 같은 임시 키에 함께 쓰지 않도록 중단
+            if (!RedisLock.isHeld(stringRedisTemplate, LOCK_KEY, token)) {
+                log.warn("랭킹 초기화 잠금 만료, 다른 인스턴스의 초기화를 기다립니다.");
+                processed.set(0);
+                return false;
+            }
+
+            ids = postRepository.findIdsAfter(lastId, PageRequest.of(0, batchSize));
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            Map<Long, Long> likeCounts = new HashMap<>();
+            ids.forEach(id -> likeCounts.put(id, 0L));
+            for (PostCountDTO count : likesRepository.countGroupByPostIds(ids)) {
+                likeCounts.put(count.getPostId(), count.getCount());
+            }
+            postRedisService.addBootstrapRankingBatch(likeCounts);
+
+            lastId = ids.get(ids.size() - 1);
+            long done = processed.addAndGet(ids.size());
+            log.info("랭킹 초기화 진행 - {}/{}건", done, total.get());
+        } while (ids.size() == batchSize);
+
+        postRedisService.completeRankingBootstrap();
+        state.set(State.COMPLETED);
+        log.info("랭킹 초기화 완료 - {}건, {}ms", processed.get(), System.currentTimeMillis() - startedAt);
+        return true;
+    }
+
+    /**
+     * 다른 인스턴스의 초기화 완료 대기
+     *
+     * @return 잠금이 비어 직접 초기화해야 하면 true (다른 인스턴스가 완료했으면 false)
+     */
+    private boolean waitForOtherInstance() throws InterruptedException {
+        state.set(State.WAITING);
+        log.info("다른 인스턴스에서 랭킹 초기화 중, 완료를 기다립니다.");
+
+        while (!postRedisService.isRankingBootstrapped()) {
+            // 초기화하던 인스턴스가 중단되어 잠금이 만료되면 이어서 직접 초기화
+            if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(LOCK_KEY))) {
+                return true;
+            }
+            Thread.sleep(WAIT_INTERVAL_MS);
+        }
+        state.set(State.COMPLETED);
+        return false;
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public long getProcessed() {
+        return processed.get();
+    }
+
+    public long getTotal() {
+        return total.get();
+    }
+
+    public String getFailure() {
+        return failure;
+    }
+}
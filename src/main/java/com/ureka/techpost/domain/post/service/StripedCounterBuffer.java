@@ -0,0 +1,141 @@
+package com.ureka.techpost.domain.post.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * @file StripedCounterBuffer.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 게시글별 카운터 증감분을 잠금을 나눈(striped) 구간에 모아두었다가, 한 번에 꺼내 반영할 수 있게 하는 버퍼 클래스입니다.
+ * 꺼낸 증감분은 반영이 끝날 때까지 같은 구간에 전송 중으로 남겨, 조회 시 빠지지 않도록 합니다.
+ */
+
+public class StripedCounterBuffer {
+
+    private final Stripe[] stripes;
+    private final int counterTypes;
+
+    // 마지막으로 비운 이후 들어온 증감 요청 수 (즉시 반영 기준)
+    private final AtomicLong pendingEvents = new AtomicLong();
+
+    public StripedCounterBuffer(int stripeCount, int counterTypes) {
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+        this.counterTypes = counterTypes;
+    }
+
+    /**
+     * 증감분 누적 후 쌓여 있는 증감 요청 수 반환
+     * 게시글 ID 별로 구간을 나눠 잠그므로, 다른 게시글의 증감과는 경합하지 않음
+     */
+    public long add(Long postId, int counterType, long delta) {
+        Stripe stripe = stripeOf(postId);
+        stripe.lock.lock();
+        try {
+            stripe.deltas.computeIfAbsent(postId, id -> new long[counterTypes])[counterType] += delta;
+        } finally {
+            stripe.lock.unlock();
+        }
+        return pendingEvents.incrementAndGet();
+    }
+
+    /**
+     * 아직 반영되지 않은 증감분 (버퍼 + 전송 중)
+     * 꺼내기와 같은 구간 잠금 안에서 읽으므로, 버퍼에서 전송 중으로 옮겨지는 순간에도 빠지지 않음
+     */
+    public long pending(Long postId, int counterType) {
+        Stripe stripe = stripeOf(postId);
+        stripe.lock.lock();
+        try {
+            long[] deltas = stripe.deltas.get(postId);
+            long[] sending = stripe.inFlight.get(postId);
+            return (deltas == null ? 0L : deltas[counterType]) + (sending == null ? 0L : sending[counterType]);
+        } finally {
+            stripe.lock.unlock();
+        }
+    }
+
+    /**
+     * 쌓인 증감분을 모두 꺼내 전송 중으로 옮기고 버퍼를 비움
+     * 구간마다 맵을 통째로 교체하므로 꺼내는 도중 들어온 증감분은 다음 반영 대상으로 남음
+     * 반영 후 complete(), 실패 시 restore() 를 호출해야 다음 꺼내기 전에 전송 중 상태가 정리됨
+     */
+    public Map<Long, long[]> drain() {
+        pendingEvents.set(0);
+
+        Map<Long, long[]> drained = new HashMap<>();
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.inFlight = stripe.deltas;
+                stripe.deltas = new HashMap<>();
+                drained.putAll(stripe.inFlight);
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return drained;
+    }
+
+    // 반영이 끝난 증감분을 전송 중 상태에서 제거
+    public void complete() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.inFlight = Map.of();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    // 반영에 실패한 전송 중 증감분을 다시 버퍼에 합침 (구간 잠금 안에서 옮기므로 조회 시 빠지지 않음)
+    public void restore() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                stripe.inFlight.forEach((postId, values) -> {
+                    long[] deltas = stripe.deltas.computeIfAbsent(postId, id -> new long[counterTypes]);
+                    for (int type = 0; type < values.length; type++) {
+                        deltas[type] += values[type];
+                    }
+                    pendingEvents.incrementAndGet();
+                });
+                stripe.inFlight = Map.of();
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+    }
+
+    public boolean isEmpty() {
+        for (Stripe stripe : stripes) {
+            stripe.lock.lock();
+            try {
+                if (!stripe.deltas.isEmpty() || !stripe.inFlight.isEmpty()) {
+                    return false;
+                }
+            } finally {
+                stripe.lock.unlock();
+            }
+        }
+        return true;
+    }
+
+    private Stripe stripeOf(Long postId) {
+        return stripes[Math.floorMod(postId.hashCode(), stripes.length)];
+    }
+
+    private static final class Stripe {
+        private final ReentrantLock lock = new ReentrantLock();
+        private Map<Long, long[]> deltas = new HashMap<>();
+        // 꺼낸 뒤 반영이 끝나지 않은 증감분
+        private Map<Long, long[]> inFlight = Map.of();
+    }
+}
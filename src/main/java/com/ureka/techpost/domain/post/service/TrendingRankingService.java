@@ -0,0 +1,97 @@
+package com.ureka.techpost.domain.post.service;
+
+import com.ureka.techpost.domain.post.enums.PopularRanking;
+import com.ureka.techpost.global.utils.RedisLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.connection.zset.Weights;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * @file TrendingRankingService.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 시간 단위 좋아요 버킷을 가중 ZUNIONSTORE 로 감쇠 누적하여, 기간별 트렌딩 랭킹 ZSet 을 갱신하는 서비스 클래스입니다.
+ */
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TrendingRankingService {
+
+    // 여러 인스턴스가 같은 시간대를 중복으로 누적하지 않도록 잠금
+    private static final String LOCK_KEY = "ranking:trending:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+
+    // 누적본에 마지막으로 반영한 시간 번호
+    private static final String FOLDED_HOUR_SUFFIX = ":foldedHour";
+
+    // 감쇠되어 의미가 없어진 점수는 누적본에서 제거 (좋아요 취소로 0 이하가 된 항목 포함)
+    private static final double MIN_SCORE = 0.01;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void refresh() {
+        String token = RedisLock.tryAcquire(stringRedisTemplate, LOCK_KEY, LOCK_TTL);
+        if (token == null) {
+            return;
+        }
+
+        try {
+            long currentHour = PostRedisService.currentEpochHour();
+            for (PopularRanking ranking : PopularRanking.values()) {
+                if (ranking.isTrending()) {
+                    refresh(ranking, currentHour);
+                }
+            }
+        } finally {
+            RedisLock.release(stringRedisTemplate, LOCK_KEY, token);
+        }
+    }
+
+    /**
+     * 1. 지난 시간대 버킷을 누적본에 반영: base = base * decay + bucket (시간대마다 키 2개짜리 ZUNIONSTORE 1회)
+     * 2. 읽기용 랭킹 = base + 현재 시간대 버킷 (ZUNIONSTORE 는 결과를 원자적으로 교체하므로 읽기 중 빈 랭킹이 보이지 않음)
+     */
+    private void refresh(PopularRanking ranking, long currentHour) {
+        String baseKey = PostRedisService.getTrendingBaseKey(ranking);
+        String foldedHourKey = baseKey + FOLDED_HOUR_SUFFIX;
+        double decay = Math.pow(0.5, 1.0 / ranking.getHalfLifeHours());
+
+        // 첫 실행은 직전 시간대부터 반영
+        String foldedHour = stringRedisTemplate.opsForValue().get(foldedHourKey);
+        long fromHour = foldedHour == null ? currentHour - 1 : Long.parseLong(foldedHour) + 1;
+
+        // 버킷 보존 기간보다 오래 멈춰 있었다면 이미 만료된 시간대는 감쇠만 한 번에 적용
+        long retentionHours = PostRedisService.TRENDING_BUCKET_TTL.toHours();
+        if (currentHour - fromHour > retentionHours) {
+            long skippedHours = currentHour - retentionHours - fromHour;
+            redisTemplate.opsForZSet().unionAndStore(baseKey, List.of(), baseKey,
+                    Aggregate.SUM, Weights.of(Math.pow(decay, skippedHours)));
+            fromHour = currentHour - retentionHours;
+        }
+
+        for (long hour = fromHour; hour < currentHour; hour++) {
+            redisTemplate.opsForZSet().unionAndStore(baseKey, List.of(PostRedisService.getTrendingBucketKey(hour)), baseKey,
+                    Aggregate.SUM, Weights.of(decay, 1));
+            // 시간대마다 기록하여 중간에 실패해도 같은 버킷을 두 번 더하지 않음
+            stringRedisTemplate.opsForValue().set(foldedHourKey, Long.toString(hour));
+        }
+
+        if (fromHour < currentHour) {
+            redisTemplate.opsForZSet().removeRangeByScore(baseKey, Double.NEGATIVE_INFINITY, MIN_SCORE);
+            log.debug("트렌딩 누적본 갱신 - ranking: {}, 반영 시간대: {}개", ranking, currentHour - fromHour);
+        }
+
+        redisTemplate.opsForZSet().unionAndStore(baseKey, List.of(PostRedisService.getTrendingBucketKey(currentHour)),
+                ranking.getRankingKey(), Aggregate.SUM, Weights.of(1, 1));
+    }
+}
@@ -0,0 +1,71 @@
+package com.ureka.techpost.domain.post.service.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * @file NGramTokenizer.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 검색 색인용 n-gram 토크나이저입니다. 한글/한자는 형태소 분석 없이도 부분 일치가 되도록 2-gram, 그 외 영문/숫자는 3-gram 으로 분리합니다.
+ */
+
+public final class NGramTokenizer {
+
+    static final int CJK_GRAM = 2;
+    static final int LATIN_GRAM = 3;
+
+    private NGramTokenizer() {
+    }
+
+    // 대소문자, 전각/반각 차이를 없앤 비교용 문자열
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 정규화된 문자열을 같은 문자 종류(한글/한자 vs 영문/숫자)끼리 묶은 뒤 n-gram 으로 분리
+     * 길이가 n 보다 짧은 묶음은 gram 을 만들지 않음 (검색 시 전체 스캔으로 대체)
+     */
+    public static Set<String> tokenize(String normalized) {
+        Set<String> grams = new LinkedHashSet<>();
+
+        int i = 0;
+        while (i < normalized.length()) {
+            char c = normalized.charAt(i);
+            if (!Character.isLetterOrDigit(c)) {
+                i++;
+                continue;
+            }
+
+            boolean cjk = isCjk(c);
+            int start = i;
+            while (i < normalized.length()
+                    && Character.isLetterOrDigit(normalized.charAt(i))
+                    && isCjk(normalized.charAt(i)) == cjk) {
+                i++;
+            }
+
+            int n = cjk ? CJK_GRAM : LATIN_GRAM;
+            for (int j = start; j + n <= i; j++) {
+                grams.add(normalized.substring(j, j + n));
+            }
+        }
+
+        return grams;
+    }
+
+    private static boolean isCjk(char c) {
+        Character.UnicodeScript script = Character.UnicodeScript.of(c);
+        return script == Character.UnicodeScript.HANGUL
+                || script == Character.UnicodeScript.HAN
+                || script == Character.UnicodeScript.HIRAGANA
+                || script == Character.UnicodeScript.KATAKANA;
+    }
+}
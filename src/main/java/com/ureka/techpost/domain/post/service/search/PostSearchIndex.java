@@ -0,0 +1,267 @@
+package com.ureka.techpost.domain.post.service.search;
+
+import com.ureka.techpost.domain.post.entity.Post;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * @file PostSearchIndex.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 게시글 제목/요약/출처에 대한 메모리 역색인 클래스입니다. n-gram 으로 후보를 좁힌 뒤 부분 문자열 일치로 검증하고, 필드 가중치로 순위를 매깁니다.
+ */
+
+@Component
+public class PostSearchIndex {
+
+    private static final int TITLE_WEIGHT = 3;
+    private static final int SOURCE_WEIGHT = 2;
+    private static final int SUMMARY_WEIGHT = 1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 게시글 ID -> 정규화된 검색 대상 필드
+    private final Map<Long, IndexedPost> documents = new HashMap<>();
+    // n-gram -> 게시글 ID 목록 (삭제/수정 시 기존 필드의 n-gram 에서 ID 를 빼고, 비면 n-gram 도 제거)
+    private final Map<String, Postings> postings = new HashMap<>();
+
+    // 초기 색인이 끝나기 전에는 DB 검색을 사용
+    private volatile boolean ready = false;
+
+    public void add(Post post) {
+        add(post.getId(), post.getTitle(), post.getSummary(), post.getSourceName());
+    }
+
+    public void add(Long id, String title, String summary, String sourceName) {
+        IndexedPost document = new IndexedPost(
+                NGramTokenizer.normalize(title),
+                NGramTokenizer.normalize(summary),
+                NGramTokenizer.normalize(sourceName));
+
+        Set<String> grams = document.grams();
+
+        lock.writeLock().lock();
+        try {
+            // 이미 색인된 게시글(수정)은 이전 필드의 n-gram 을 먼저 정리 (같은 ID 가 중복으로 쌓이지 않도록)
+            IndexedPost previous = documents.put(id, document);
+            if (previous != null) {
+                unindex(id, previous.grams());
+            }
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, key -> new Postings()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            IndexedPost removed = documents.remove(id);
+            if (removed != null) {
+                unindex(id, removed.grams());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 색인된 n-gram 수 (삭제된 게시글의 n-gram 이 남지 않는지 확인용)
+    int gramCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void unindex(Long id, Set<String> grams) {
+        for (String gram : grams) {
+            Postings current = postings.get(gram);
+            if (current != null && current.remove(id) && current.size() == 0) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * 키워드와 출처 조건에 맞는 게시글 ID 를 점수순(동점이면 최신순)으로 페이징하여 반환
+     */
+    public Page<Long> search(String keyword, String sourceName, Pageable pageable) {
+        List<Match> matches = findMatches(keyword, sourceName);
+        matches.sort(Comparator.comparingInt(Match::score).reversed()
+                .thenComparing(Comparator.comparingLong(Match::id).reversed()));
+
+        int from = (int) Math.min(pageable.getOffset(), matches.size());
+        int to = Math.min(from + pageable.getPageSize(), matches.size());
+
+        List<Long> ids = matches.subList(from, to).stream()
+                .map(Match::id)
+                .toList();
+
+        return new PageImpl<>(ids, pageable, matches.size());
+    }
+
+    /**
+     * 커서 기반 조회용: 조건에 맞는 게시글 중 cursor 보다 작은 ID 를 최신순으로 size 개 반환
+     */
+    public List<Long> searchBefore(String keyword, String sourceName, Long cursor, int size) {
+        return findMatches(keyword, sourceName).stream()
+                .map(Match::id)
+                .filter(id -> cursor == null || id < cursor)
+                .sorted(Comparator.reverseOrder())
+                .limit(size)
+                .toList();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public void markReady() {
+        this.ready = true;
+    }
+
+    // 이미 색인된 게시글인지 (로더가 증분 반영된 게시글을 다시 색인하지 않도록)
+    public boolean contains(Long id) {
+        lock.readLock().lock();
+        try {
+            return documents.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Match> findMatches(String keyword, String sourceName) {
+        String query = NGramTokenizer.normalize(keyword).strip();
+        String source = StringUtils.hasText(sourceName) ? NGramTokenizer.normalize(sourceName) : null;
+
+        List<Match> matches = new ArrayList<>();
+        Set<Long> seen = new HashSet<>();
+
+        lock.readLock().lock();
+        try {
+            for (Long id : candidates(query)) {
+                if (!seen.add(id)) {
+                    continue;
+                }
+
+                IndexedPost document = documents.get(id);
+                if (document == null || (source != null && !document.sourceName().contains(source))) {
+                    continue;
+                }
+
+                int score = document.score(query);
+                if (score > 0) {
+                    matches.add(new Match(id, score));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return matches;
+    }
+
+    // 가장 희소한 n-gram 의 게시글 목록을 후보로 사용, gram 이 없는 짧은 키워드는 전체가 후보
+    private Collection<Long> candidates(String query) {
+        Set<String> grams = NGramTokenizer.tokenize(query);
+        if (grams.isEmpty()) {
+            return new ArrayList<>(documents.keySet());
+        }
+
+        Postings rarest = null;
+        for (String gram : grams) {
+            Postings current = postings.get(gram);
+            if (current == null) {
+                return List.of();
+            }
+            if (rarest == null || current.size() < rarest.size()) {
+                rarest = current;
+            }
+        }
+        return rarest.toList();
+    }
+
+    private record IndexedPost(String title, String summary, String sourceName) {
+
+        Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            grams.addAll(NGramTokenizer.tokenize(title));
+            grams.addAll(NGramTokenizer.tokenize(summary));
+            grams.addAll(NGramTokenizer.tokenize(sourceName));
+            return grams;
+        }
+
+        int score(String query) {
+            int score = 0;
+            if (title.contains(query)) {
+                score += TITLE_WEIGHT;
+            }
+            if (sourceName.contains(query)) {
+                score += SOURCE_WEIGHT;
+            }
+            if (summary.contains(query)) {
+                score += SUMMARY_WEIGHT;
+            }
+            return score;
+        }
+    }
+
+    private record Match(Long id, int score) {
+    }
+
+    // 박싱 비용을 줄이기 위한 long 배열 기반 게시글 ID 목록
+    private static final class Postings {
+        private long[] ids = new long[4];
+        private int size = 0;
+
+        void add(long id) {
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        // 순서는 의미 없으므로 마지막 원소로 덮어써서 제거
+        boolean remove(long id) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == id) {
+                    ids[i] = ids[--size];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        int size() {
+            return size;
+        }
+
+        List<Long> toList() {
+            List<Long> result = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                result.add(ids[i]);
+            }
+            return result;
+        }
+    }
+}
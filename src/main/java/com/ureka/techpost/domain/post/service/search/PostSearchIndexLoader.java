@@ -0,0 +1,74 @@
+package com.ureka.techpost.domain.post.service.search;
+
+import com.ureka.techpost.domain.post.entity.Post;
+import com.ureka.techpost.domain.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * @file PostSearchIndexLoader.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 기동 시 DB 의 게시글을 ID 순으로 나눠 읽어 검색 색인을 만들고, 다른 인스턴스가 저장한 게시글을 주기적으로 따라잡는 클래스입니다.
+ */
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndexLoader {
+
+    private final PostRepository postRepository;
+    private final PostSearchIndex postSearchIndex;
+
+    // 로더가 DB 에서 마지막으로 읽은 ID (증분 add() 와 분리해야 그보다 작은 ID 를 건너뛰지 않음)
+    private long cursor = 0L;
+
+    // 기동을 막지 않도록 별도 스레드에서 초기 색인
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadOnStartup() {
+        Thread loader = new Thread(() -> {
+            try {
+                int indexed = catchUp();
+                postSearchIndex.markReady();
+                log.info("게시글 검색 색인 완료 - 색인된 게시글: {}", indexed);
+            } catch (Exception e) {
+                log.error("게시글 검색 색인 실패, DB 검색을 계속 사용합니다.", e);
+            }
+        }, "post-search-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    // 다른 인스턴스(크롤러 등)에서 저장된 게시글 반영
+    public void syncNewPosts() {
+        if (!postSearchIndex.isReady()) {
+            return;
+        }
+        catchUp();
+    }
+
+    // 로더가 마지막으로 읽은 ID 이후의 게시글을 배치 단위로 색인 (이 인스턴스에서 이미 증분 반영된 게시글은 건너뜀)
+    private synchronized int catchUp() {
+        int indexed = 0;
+        List<Post> batch;
+        do {
+            batch = postRepository.findTop500ByIdGreaterThanOrderByIdAsc(cursor);
+            for (Post post : batch) {
+                if (!postSearchIndex.contains(post.getId())) {
+                    postSearchIndex.add(post);
+                    indexed++;
+                }
+            }
+            if (!batch.isEmpty()) {
+                cursor = batch.get(batch.size() - 1).getId();
+            }
+        } while (!batch.isEmpty());
+        return indexed;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ureka.techpost.global.config;
+
+import com.ureka.techpost.domain.post.service.HotPostCache;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @file HotKeysEndpoint.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 이 인스턴스가 로컬 복제본으로 응답 중인 핫 게시글과 초당 추정 조회 수를 보여주는 관리자용 Actuator 엔드포인트입니다. (/actuator/hotkeys)
+ */
+
+@Component
+@Endpoint(id = "hotkeys")
+@RequiredArgsConstructor
+public class HotKeysEndpoint {
+
+    private final HotPostCache hotPostCache;
+
+    @ReadOperation
+    public List<HotKey> hotKeys() {
+        return hotPostCache.hotKeys().entrySet().stream()
+                .map(entry -> new HotKey(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    public record HotKey(Long postId, Long estimatedReadsPerSecond) {
+    }
+}
@@ -0,0 +1,43 @@
+package com.ureka.techpost.global.config;
+
+import com.ureka.techpost.domain.post.service.RankingBootstrapService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * @file RankingBootstrapHealthIndicator.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 랭킹 초기화가 끝나기 전까지 readiness 를 DEGRADED(요청은 처리하지만 인기글이 불완전) 상태로 보고하는 HealthIndicator 입니다.
+ */
+
+@Component("rankingBootstrap")
+@RequiredArgsConstructor
+public class RankingBootstrapHealthIndicator implements HealthIndicator {
+
+    public static final Status DEGRADED = new Status("DEGRADED", "인기글 랭킹 초기화가 완료되지 않았습니다.");
+
+    private final RankingBootstrapService rankingBootstrapService;
+
+    @Override
+    public Health health() {
+        RankingBootstrapService.State state = rankingBootstrapService.getState();
+
+        Health.Builder builder = state == RankingBootstrapService.State.COMPLETED
+                ? Health.up()
+                : Health.status(DEGRADED);
+
+        builder.withDetail("state", state)
+                .withDetail("processed", rankingBootstrapService.getProcessed())
+                .withDetail("total", rankingBootstrapService.getTotal());
+
+        if (rankingBootstrapService.getFailure() != null) {
+            builder.withDetail("error", rankingBootstrapService.getFailure());
+        }
+        return builder.build();
+    }
+}
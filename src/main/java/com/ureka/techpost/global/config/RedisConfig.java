@@ -3,19 +3,38 @@ package com.ureka.techpost.global.config;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ureka.techpost.domain.post.dto.PostResponseDTO;
+import com.ureka.techpost.global.config.cache.CompactRedisSerializer;
+import com.ureka.techpost.global.config.cache.ReplicaReadRouter;
+import com.ureka.techpost.global.config.cache.StampedeGuard;
+import com.ureka.techpost.global.config.cache.TwoTierCacheManager;
+import io.lettuce.core.ReadFrom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisStaticMasterReplicaConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Configuration
@@ -40,35 +59,55 @@ public class RedisConfig {
         return objectMapper;
     }
 
-    // Key는 String, Value는 JSON
+    // 값 직렬화 포맷 선택 (compact: 게시글 DTO/스냅샷은 바이너리, 그 외는 JSON / json: 캐시 부재 표시 외에는 전부 JSON)
+    // 두 포맷 모두 기존 JSON 항목을 읽을 수 있으므로, 바이너리를 읽지 못하는 이전 버전이 남아있는 롤링 배포 중에는 json 으로 둠
+    // 기본값은 json, 모든 인스턴스가 이 버전으로 바뀐 뒤 설정(redis.serializer.format=compact)으로 전환
+    private RedisSerializer<Object> createValueSerializer(String format) {
+        GenericJackson2JsonRedisSerializer jsonSerializer = new GenericJackson2JsonRedisSerializer(createObjectMapper());
+        return new CompactRedisSerializer(jsonSerializer, !"json".equalsIgnoreCase(format));
+    }
+
+    // Key는 String, Value는 게시글 DTO 바이너리 / 그 외 JSON
     @Bean
-    public RedisTemplate<String, Object> redisTemplate (RedisConnectionFactory redisConnectionFactory){
+    public RedisTemplate<String, Object> redisTemplate (RedisConnectionFactory redisConnectionFactory,
+                                                        @Value("${redis.serializer.format:json}") String serializerFormat){
+        return createRedisTemplate(redisConnectionFactory, serializerFormat);
+    }
+
+    private RedisTemplate<String, Object> createRedisTemplate(RedisConnectionFactory redisConnectionFactory, String serializerFormat) {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(redisConnectionFactory);
 
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(createObjectMapper());
+        RedisSerializer<Object> serializer = createValueSerializer(serializerFormat);
 
         redisTemplate.setKeySerializer(new StringRedisSerializer());
         redisTemplate.setValueSerializer(serializer);
         return redisTemplate;
     }
 
+    // Key는 String, Value는 redisTemplate 과 같은 포맷 (posts 캐시를 redisTemplate 으로도 직접 읽고 쓰기 때문)
+    private RedisCacheConfiguration createCacheConfiguration(String serializerFormat) {
+        return RedisCacheConfiguration.defaultCacheConfig()
+                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(createValueSerializer(serializerFormat)))
+                .entryTtl(Duration.ofMinutes(10)); // 기본 캐시 유효시간 10분
+    }
+
     // RedisCacheManager 커스텀 설정
-    // Key는 String, Value는 JSON
     @Bean
-    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                               @Value("${redis.serializer.format:json}") String serializerFormat,
+                                               @Value("${cache.posts.negative-ttl:60s}") Duration postsNegativeTtl) {
 
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(createObjectMapper());
-
-        RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
-                .serializeKeysWith(RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer))
-                .entryTtl(Duration.ofMinutes(10)); // 기본 캐시 유효시간 10분
+        RedisCacheConfiguration defaultConfig = createCacheConfiguration(serializerFormat);
 
         // 좋아요, 댓글은 1시간
         Map<String, RedisCacheConfiguration> customConfigs = new HashMap<>();
         customConfigs.put("postLikes", defaultConfig.entryTtl(Duration.ofHours(1)));
         customConfigs.put("postComments", defaultConfig.entryTtl(Duration.ofHours(1)));
+        // 없는 게시글 ID 는 짧게만 캐싱 (게시글 생성 시에도 해당 ID 캐시를 지움)
+        customConfigs.put("posts", defaultConfig.entryTtl((key, value) ->
+                value == null ? postsNegativeTtl : defaultConfig.getTtlFunction().getTimeToLive(key, value)));
 
         return RedisCacheManager.RedisCacheManagerBuilder
                 .fromConnectionFactory(connectionFactory)
@@ -76,4 +115,118 @@ public class RedisConfig {
                 .withInitialCacheConfigurations(customConfigs) // 커스텀 설정 적용
                 .build();
     }
+
+    /**
+     * 읽기 비중이 높은 조회(게시글 DTO, 좋아요/댓글 수, 랭킹, posts 캐시 히트)를 레플리카로 보낼지 결정
+     * redis.replica.nodes 예: redis-replica:6379,redis-replica-2:6379 (프라이머리는 spring.data.redis.host/port)
+     * 쓰기와 나머지 조회는 기존 연결(프라이머리)을 그대로 사용
+     */
+    @Bean
+    public ReplicaReadRouter replicaReadRouter(RedisTemplate<String, Object> redisTemplate,
+                                               StringRedisTemplate stringRedisTemplate,
+                                               RedisProperties redisProperties,
+                                               @Value("${redis.serializer.format:json}") String serializerFormat,
+                                               @Value("${redis.replica.enabled:false}") boolean replicaEnabled,
+                                               @Value("${redis.replica.nodes:}") List<String> replicaNodes,
+                                               @Value("${redis.replica.max-lag-seconds:1}") long maxLagSeconds,
+                                               @Value("${redis.replica.max-lag-bytes:1048576}") long maxLagBytes,
+                                               @Value("${redis.replica.max-check-age:3s}") Duration maxCheckAge,
+                                               @Value("${redis.replica.read-your-writes-window:2s}") Duration readYourWritesWindow) {
+
+        if (!replicaEnabled || replicaNodes.isEmpty()) {
+            return ReplicaReadRouter.primaryOnly(redisTemplate, stringRedisTemplate);
+        }
+
+        RedisStaticMasterReplicaConfiguration configuration =
+                new RedisStaticMasterReplicaConfiguration(redisProperties.getHost(), redisProperties.getPort());
+        replicaNodes.forEach(node -> {
+            String[] hostAndPort = node.trim().split(":");
+            configuration.addNode(hostAndPort[0], Integer.parseInt(hostAndPort[1]));
+        });
+        configuration.setUsername(redisProperties.getUsername());
+        configuration.setPassword(RedisPassword.of(redisProperties.getPassword()));
+        configuration.setDatabase(redisProperties.getDatabase());
+
+        // 레플리카 우선, 레플리카가 모두 끊기면 프라이머리에서 읽음
+        LettuceConnectionFactory replicaConnectionFactory = new LettuceConnectionFactory(configuration,
+                LettuceClientConfiguration.builder().readFrom(ReadFrom.REPLICA_PREFERRED).build());
+        replicaConnectionFactory.afterPropertiesSet();
+        replicaConnectionFactory.start();
+
+        RedisTemplate<String, Object> replicaTemplate = createRedisTemplate(replicaConnectionFactory, serializerFormat);
+        replicaTemplate.afterPropertiesSet();
+
+        return ReplicaReadRouter.withReplicas(redisTemplate, stringRedisTemplate, replicaConnectionFactory,
+                replicaTemplate, new StringRedisTemplate(replicaConnectionFactory),
+                replicaNodes.size(), maxLagSeconds, maxLagBytes, maxCheckAge, readYourWritesWindow);
+    }
+
+    // 캐시 미스 시 DB 조회 집중(stampede) 방지
+    @Bean
+    public StampedeGuard stampedeGuard(StringRedisTemplate stringRedisTemplate,
+                                       @Value("${cache.stampede.lease-ttl:3s}") Duration leaseTtl,
+                                       @Value("${cache.stampede.poll-interval:25ms}") Duration pollInterval,
+                                       @Value("${cache.stampede.max-wait:500ms}") Duration maxWait,
+                                       @Value("${cache.stampede.early-refresh-window:60s}") Duration earlyRefreshWindow) {
+        return new StampedeGuard(stringRedisTemplate, leaseTtl, pollInterval, maxWait, earlyRefreshWindow);
+    }
+
+    // 게시글 상세 DTO 는 로컬 캐시(L1) + Redis(L2) 2단으로 캐싱
+    // 그 외 캐시는 RedisCacheManager 를 그대로 사용
+    @Bean
+    @Primary
+    public TwoTierCacheManager twoTierCacheManager(RedisCacheManager redisCacheManager,
+                                                   StringRedisTemplate stringRedisTemplate,
+                                                   StampedeGuard stampedeGuard,
+                                                   ReplicaReadRouter replicaReadRouter,
+                                                   @Value("${redis.serializer.format:json}") String serializerFormat,
+                                                   @Value("${cache.local.posts.max-bytes:67108864}") long postsMaxBytes,
+                                                   @Value("${cache.local.posts.ttl:30s}") Duration postsTtl) {
+
+        TwoTierCacheManager twoTierCacheManager = new TwoTierCacheManager(redisCacheManager, stringRedisTemplate, stampedeGuard)
+                .withLocalCache("posts", postsMaxBytes, postsTtl, RedisConfig::estimateSize, RedisConfig::copyValue);
+
+        // L2 히트 조회는 레플리카에서 (로딩/갱신/무효화는 프라이머리)
+        if (replicaReadRouter.getReplicaConnectionFactory() != null) {
+            RedisCacheManager replicaCacheManager = RedisCacheManager.RedisCacheManagerBuilder
+                    .fromConnectionFactory(replicaReadRouter.getReplicaConnectionFactory())
+                    .cacheDefaults(createCacheConfiguration(serializerFormat))
+                    .build();
+            replicaCacheManager.afterPropertiesSet();
+            twoTierCacheManager.withReplicaReads(replicaCacheManager, replicaReadRouter::isReplicaUsable);
+        }
+        return twoTierCacheManager;
+    }
+
+    // 다른 인스턴스에서 발행한 L1 무효화 메시지 구독
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       TwoTierCacheManager twoTierCacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(
+                (message, pattern) -> twoTierCacheManager.onInvalidationMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(TwoTierCacheManager.INVALIDATION_CHANNEL));
+        return container;
+    }
+
+    // 로컬 캐시 용량 계산용 추정 바이트 수 (문자열은 UTF-16 기준)
+    private static int estimateSize(Object value) {
+        if (value instanceof PostResponseDTO dto) {
+            return 128 + 2 * (length(dto.getTitle()) + length(dto.getSummary()) + length(dto.getOriginalUrl())
+                    + length(dto.getThumbnailUrl()) + length(dto.getPublisher()) + length(dto.getSourceName()));
+        }
+        return 64;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static Object copyValue(Object value) {
+        if (value instanceof PostResponseDTO dto) {
+            return dto.copy();
+        }
+        return value;
+    }
 }
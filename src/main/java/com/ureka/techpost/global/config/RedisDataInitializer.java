@@ -1,6 +1,6 @@
 package com.ureka.techpost.global.config;
 
-import com.ureka.techpost.domain.post.service.PostRedisService;
+import com.ureka.techpost.domain.post.service.RankingBootstrapService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
@@ -11,16 +11,12 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class RedisDataInitializer implements CommandLineRunner {
 
-    private final PostRedisService postRedisService;
+    private final RankingBootstrapService rankingBootstrapService;
 
+    // 랭킹 초기화는 백그라운드에서 진행되며, 진행 상황은 /actuator/health 의 rankingBootstrap 항목으로 확인
     @Override
     public void run(String... args) {
         log.info("Started Redis Ranking Initialization...");
-        try {
-            postRedisService.initRankingIfEmpty();
-            log.info("Redis Ranking Initialized Successfully!");
-        } catch (Exception e) {
-            log.error("Redis Initialization Failed: {}", e.getMessage());
-        }
+        rankingBootstrapService.startAsync();
     }
 }
@@ -9,6 +9,7 @@ import com.ureka.techpost.domain.auth.jwt.JwtUtil;
 import com.ureka.techpost.domain.auth.service.CustomOAuth2UserService;
 import com.ureka.techpost.domain.auth.service.TokenService;
 import com.ureka.techpost.domain.user.repository.UserRepository;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -82,6 +83,10 @@ public class SecurityConfig {
                         .sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 
                 .authorizeHttpRequests(auth -> auth
+                        // SSE 연결 종료 시의 비동기 디스패치는 JWT 필터를 거치지 않으므로 허용 (최초 요청에서 이미 인증됨)
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+                        // 핫 키 목록은 게시글 조회 패턴이 드러나므로 관리자만 (WHITE_LIST 의 /actuator/** 보다 먼저 검사)
+                        .requestMatchers("/actuator/hotkeys").hasRole("ADMIN")
                         .requestMatchers(WHITE_LIST).permitAll()
                         .anyRequest().authenticated()
                 )
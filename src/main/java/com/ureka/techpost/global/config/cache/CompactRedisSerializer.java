@@ -0,0 +1,322 @@
+package com.ureka.techpost.global.config.cache;
+
+import com.ureka.techpost.domain.post.dto.PopularPostsSnapshot;
+import com.ureka.techpost.domain.post.dto.PostResponseDTO;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @file CompactRedisSerializer.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 게시글 DTO/인기글 스냅샷과 캐시 부재 표시를 타입 정보 없는 바이너리로 저장하고, 그 외 값과 기존 JSON 항목은 위임 직렬화기로 처리하는 RedisSerializer 입니다.
+ */
+
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    // JSON 값은 '{', '[', '"', 숫자 등으로 시작하므로 첫 바이트로 포맷을 구분
+    static final byte MAGIC = (byte) 0xC7;
+
+    static final byte TYPE_POST = 1;
+    static final byte TYPE_POPULAR_SNAPSHOT = 2;
+    // 캐시 부재 표시 (없는 게시글 ID 의 음성 캐시), 본문 없음
+    static final byte TYPE_NULL_VALUE = 3;
+
+    // 타입별 현재 스키마 버전
+    // 필드를 추가/변경할 때는 버전을 올리고, 이전 버전 읽기 분기를 롤링 배포가 끝날 때까지 유지
+    static final byte POST_VERSION = 1;
+    static final byte POPULAR_SNAPSHOT_VERSION = 1;
+
+    private final RedisSerializer<Object> fallback;
+    // false 면 게시글 DTO/스냅샷도 위임 직렬화기(JSON)로 저장 (부재 표시는 JSON 기본 타입 설정으로 표현할 수 없어 항상 바이너리)
+    private final boolean compactValues;
+
+    public CompactRedisSerializer(RedisSerializer<Object> fallback) {
+        this(fallback, true);
+    }
+
+    public CompactRedisSerializer(RedisSerializer<Object> fallback, boolean compactValues) {
+        this.fallback = fallback;
+        this.compactValues = compactValues;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value instanceof NullValue) {
+            return new byte[]{MAGIC, TYPE_NULL_VALUE};
+        }
+
+        if (!compactValues) {
+            return fallback.serialize(value);
+        }
+
+        if (value instanceof PostResponseDTO dto) {
+            Output out = new Output(256);
+            out.writeByte(MAGIC);
+            out.writeByte(TYPE_POST);
+            writePost(out, dto);
+            return out.toByteArray();
+        }
+
+        if (value instanceof PopularPostsSnapshot snapshot) {
+            Output out = new Output(2048);
+            out.writeByte(MAGIC);
+            out.writeByte(TYPE_POPULAR_SNAPSHOT);
+            writePopularSnapshot(out, snapshot);
+            return out.toByteArray();
+        }
+
+        return fallback.serialize(value);
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        // 바이너리 포맷 도입 전에 저장된 JSON 항목
+        if (bytes[0] != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+
+        try {
+            Input in = new Input(bytes, 1);
+            byte type = in.readByte();
+            return switch (type) {
+                case TYPE_POST -> readPost(in);
+                case TYPE_POPULAR_SNAPSHOT -> readPopularSnapshot(in);
+                case TYPE_NULL_VALUE -> NullValue.INSTANCE;
+                default -> throw new SerializationException("알 수 없는 캐시 타입: " + type);
+            };
+        } catch (ArrayIndexOutOfBoundsException e) {
+            throw new SerializationException("손상된 캐시 데이터입니다.", e);
+        }
+    }
+
+    /* ===== PostResponseDTO ===== */
+
+    // 값이 있는 필드만 비트마스크로 표시하고 순서대로 기록
+    private void writePost(Output out, PostResponseDTO dto) {
+        out.writeByte(POST_VERSION);
+
+        Object[] fields = {dto.getId(), dto.getTitle(), dto.getSummary(), dto.getOriginalUrl(), dto.getThumbnailUrl(),
+                dto.getPublisher(), dto.getPublishedAt(), dto.getSourceName(), dto.getCreatedAt(),
+                dto.getLikeCount(), dto.getCommentCount(), dto.getIsLiked()};
+
+        int mask = 0;
+        for (int i = 0; i < fields.length; i++) {
+            if (fields[i] != null) {
+                mask |= 1 << i;
+            }
+        }
+        out.writeVarInt(mask);
+
+        for (Object field : fields) {
+            if (field instanceof Long number) {
+                out.writeVarLong(number);
+            } else if (field instanceof String text) {
+                out.writeString(text);
+            } else if (field instanceof LocalDateTime dateTime) {
+                out.writeDateTime(dateTime);
+            } else if (field instanceof Boolean flag) {
+                out.writeByte((byte) (flag ? 1 : 0));
+            }
+        }
+    }
+
+    private PostResponseDTO readPost(Input in) {
+        byte version = in.readByte();
+        if (version != 1) {
+            throw new SerializationException("지원하지 않는 게시글 캐시 버전: " + version);
+        }
+
+        int mask = in.readVarInt();
+        PostResponseDTO dto = new PostResponseDTO();
+        dto.setId(has(mask, 0) ? in.readVarLong() : null);
+        dto.setTitle(has(mask, 1) ? in.readString() : null);
+        dto.setSummary(has(mask, 2) ? in.readString() : null);
+        dto.setOriginalUrl(has(mask, 3) ? in.readString() : null);
+        dto.setThumbnailUrl(has(mask, 4) ? in.readString() : null);
+        dto.setPublisher(has(mask, 5) ? in.readString() : null);
+        dto.setPublishedAt(has(mask, 6) ? in.readDateTime() : null);
+        dto.setSourceName(has(mask, 7) ? in.readString() : null);
+        dto.setCreatedAt(has(mask, 8) ? in.readDateTime() : null);
+        dto.setLikeCount(has(mask, 9) ? in.readVarLong() : null);
+        dto.setCommentCount(has(mask, 10) ? in.readVarLong() : null);
+        dto.setIsLiked(has(mask, 11) ? in.readByte() == 1 : null);
+        return dto;
+    }
+
+    /* ===== PopularPostsSnapshot ===== */
+
+    private void writePopularSnapshot(Output out, PopularPostsSnapshot snapshot) {
+        out.writeByte(POPULAR_SNAPSHOT_VERSION);
+
+        List<Long> rankingIds = snapshot.getRankingIds() == null ? List.of() : snapshot.getRankingIds();
+        out.writeVarInt(rankingIds.size());
+        rankingIds.forEach(out::writeVarLong);
+
+        // 게시글은 자체 버전을 함께 기록하므로 스냅샷과 독립적으로 스키마를 바꿀 수 있음
+        List<PostResponseDTO> posts = snapshot.getPosts() == null ? List.of() : snapshot.getPosts();
+        out.writeVarInt(posts.size());
+        posts.forEach(post -> writePost(out, post));
+
+        out.writeByte((byte) (snapshot.getBuiltAt() == null ? 0 : 1));
+        if (snapshot.getBuiltAt() != null) {
+            out.writeDateTime(snapshot.getBuiltAt());
+        }
+    }
+
+    private PopularPostsSnapshot readPopularSnapshot(Input in) {
+        byte version = in.readByte();
+        if (version != 1) {
+            throw new SerializationException("지원하지 않는 인기글 스냅샷 버전: " + version);
+        }
+
+        int rankingSize = in.readVarInt();
+        List<Long> rankingIds = new ArrayList<>(rankingSize);
+        for (int i = 0; i < rankingSize; i++) {
+            rankingIds.add(in.readVarLong());
+        }
+
+        int postSize = in.readVarInt();
+        List<PostResponseDTO> posts = new ArrayList<>(postSize);
+        for (int i = 0; i < postSize; i++) {
+            posts.add(readPost(in));
+        }
+
+        LocalDateTime builtAt = in.readByte() == 1 ? in.readDateTime() : null;
+        return new PopularPostsSnapshot(rankingIds, posts, builtAt);
+    }
+
+    private static boolean has(int mask, int index) {
+        return (mask & (1 << index)) != 0;
+    }
+
+    /* ===== 바이트 입출력 ===== */
+
+    private static final class Output {
+
+        private byte[] buffer;
+        private int position;
+
+        Output(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        void writeByte(byte value) {
+            ensureCapacity(1);
+            buffer[position++] = value;
+        }
+
+        // 부호 없는 정수를 7비트 단위로 기록 (작은 값일수록 적은 바이트 사용)
+        void writeVarInt(int value) {
+            ensureCapacity(5);
+            while ((value & ~0x7F) != 0) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+        }
+
+        // 음수도 짧게 기록되도록 지그재그 인코딩 후 기록
+        void writeVarLong(long value) {
+            ensureCapacity(10);
+            long zigzag = (value << 1) ^ (value >> 63);
+            while ((zigzag & ~0x7FL) != 0) {
+                buffer[position++] = (byte) ((zigzag & 0x7F) | 0x80);
+                zigzag >>>= 7;
+            }
+            buffer[position++] = (byte) zigzag;
+        }
+
+        void writeString(String value) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, position, bytes.length);
+            position += bytes.length;
+        }
+
+        // 초 단위 epoch + 나노초 (시간대 변환 없이 UTC 기준으로 그대로 보존)
+        void writeDateTime(LocalDateTime value) {
+            writeVarLong(value.toEpochSecond(ZoneOffset.UTC));
+            writeVarInt(value.getNano());
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(buffer, position);
+        }
+
+        private void ensureCapacity(int extra) {
+            if (position + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + extra));
+            }
+        }
+    }
+
+    private static final class Input {
+
+        private final byte[] buffer;
+        private int position;
+
+        Input(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        byte readByte() {
+            return buffer[position++];
+        }
+
+        int readVarInt() {
+            int result = 0;
+            for (int shift = 0; shift < 32; shift += 7) {
+                byte b = buffer[position++];
+                result |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new SerializationException("잘못된 가변 길이 정수입니다.");
+        }
+
+        long readVarLong() {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = buffer[position++];
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return (result >>> 1) ^ -(result & 1);
+                }
+            }
+            throw new SerializationException("잘못된 가변 길이 정수입니다.");
+        }
+
+        String readString() {
+            int length = readVarInt();
+            if (length < 0 || position + length > buffer.length) {
+                throw new SerializationException("잘못된 문자열 길이입니다: " + length);
+            }
+            String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+            position += length;
+            return value;
+        }
+
+        LocalDateTime readDateTime() {
+            long epochSecond = readVarLong();
+            int nano = readVarInt();
+            return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package com.ureka.techpost.global.config.cache;
+
+import org.springframework.data.redis.connection.ClusterSlotHashUtil;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @file RedisKeyLayout.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description Redis Cluster 에서 함께 읽고 쓰는 키가 같은 슬롯에 놓이도록 해시 태그를 붙이고, 여러 키 조회를 슬롯 단위로 나눠 실행하는 유틸 클래스입니다.
+ */
+
+public final class RedisKeyLayout {
+
+    // 한 번의 명령/스크립트에서 함께 다루는 전역 키 묶음 (ZUNIONSTORE, RENAME, 다중 키 스크립트)
+    public static final String RANKING_TAG = "{ranking}";
+    public static final String COUNTER_DELTA_TAG = "{counterDelta}";
+    public static final String SEARCH_COUNT_TAG = "{searchCount}";
+
+    private RedisKeyLayout() {
+    }
+
+    /**
+     * 게시글 단위 해시 태그
+     * 상세 DTO, 좋아요/댓글 수, 좋아요 사용자 Set 이 같은 슬롯에 위치하도록 모든 게시글 키에 붙임
+     * (중괄호 안의 문자열만으로 슬롯을 계산하므로 접두사와 관계없이 같은 슬롯)
+     */
+    public static String postTag(Long postId) {
+        return "{post:" + postId + "}";
+    }
+
+    // 사용자 단위 해시 태그 (좋아요한 게시글 Set 과 그 버전 키를 한 스크립트에서 다루도록)
+    public static String userTag(Long userId) {
+        return "{user:" + userId + "}";
+    }
+
+    public static int slotOf(String key) {
+        return ClusterSlotHashUtil.calculateSlot(key);
+    }
+
+    /**
+     * 키 목록을 슬롯별로 묶은 위치(index) 목록
+     * 처음 등장한 슬롯 순서를 유지
+     */
+    public static Map<Integer, List<Integer>> groupBySlot(List<String> keys) {
+        Map<Integer, List<Integer>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            groups.computeIfAbsent(slotOf(keys.get(i)), slot -> new ArrayList<>()).add(i);
+        }
+        return groups;
+    }
+
+    /**
+     * 슬롯이 섞인 여러 키를 한 번에 조회
+     * 같은 슬롯의 키끼리 MGET 으로 묶고, 묶음들은 하나의 파이프라인으로 보냄
+     * (클러스터에서는 각 MGET 이 해당 노드로 비동기 전송되어 노드별로 병렬 처리되고, 단일 노드에서는 왕복 1회)
+     * 게시글 키는 게시글마다 태그가 다르므로 게시글 N 개면 MGET 도 N 개 (같은 게시글의 좋아요/댓글 수만 한 MGET 으로 묶임)
+     * - MGET 은 한 슬롯 안에서만 가능하므로 더 묶을 수는 없고, 왕복 수는 파이프라인 덕분에 노드당 1회로 유지
+     * 결과는 입력 키 순서대로 반환하며 없는 키는 null
+     */
+    @SuppressWarnings("unchecked")
+    public static <V> List<V> multiGet(RedisTemplate<String, V> template, List<String> keys) {
+        if (keys.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Integer, List<Integer>> groups = groupBySlot(keys);
+
+        // 모두 같은 슬롯이면 MGET 한 번으로 충분
+        if (groups.size() == 1) {
+            List<V> values = template.opsForValue().multiGet(keys);
+            return values == null ? Arrays.asList((V[]) new Object[keys.size()]) : new ArrayList<>(values);
+        }
+
+        List<Object> results = template.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, T> Object execute(RedisOperations<K, T> operations) {
+                RedisOperations<String, V> ops = (RedisOperations<String, V>) operations;
+                groups.values().forEach(indexes ->
+                        ops.opsForValue().multiGet(indexes.stream().map(keys::get).toList()));
+                return null;
+            }
+        });
+
+        Object[] values = new Object[keys.size()];
+        int group = 0;
+        for (List<Integer> indexes : groups.values()) {
+            List<V> groupValues = (List<V>) results.get(group++);
+            for (int i = 0; i < indexes.size(); i++) {
+                values[indexes.get(i)] = groupValues == null ? null : groupValues.get(i);
+            }
+        }
+        return Arrays.asList((V[]) values);
+    }
+}
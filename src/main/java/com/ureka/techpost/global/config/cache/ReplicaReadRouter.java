@@ -0,0 +1,206 @@
+package com.ureka.techpost.global.config.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @file ReplicaReadRouter.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 읽기 비중이 높은 조회를 Redis 레플리카로 보내고, 복제 지연이 크거나 방금 쓴 게시글의 카운터는 프라이머리에서 읽도록 고르는 클래스입니다.
+ */
+
+@Slf4j
+public class ReplicaReadRouter {
+
+    private final RedisTemplate<String, Object> primaryTemplate;
+    private final StringRedisTemplate primaryStringTemplate;
+
+    // 레플리카 우선 읽기용 (레플리카가 없으면 Lettuce 가 프라이머리로 보냄), 비활성화 시 null
+    private final RedisConnectionFactory replicaConnectionFactory;
+    private final RedisTemplate<String, Object> replicaTemplate;
+    private final StringRedisTemplate replicaStringTemplate;
+
+    // Lettuce 는 설정된 레플리카 중 아무 곳에서나 읽으므로, 설정된 레플리카가 모두 연결되어 있고
+    // 마지막 ACK 이후 시간(lag)과 데이터 지연(프라이머리와의 복제 오프셋 차이, 바이트)이 모두 이 값 이하일 때만 레플리카 읽기 사용
+    // lag 는 ACK 가 제때 오는지만 보여주므로, 실제로 얼마나 뒤처졌는지는 오프셋 차이로 확인
+    private final int expectedReplicas;
+    private final long maxLagSeconds;
+    private final long maxLagBytes;
+    // 마지막으로 상태 확인에 성공한 뒤 이 시간이 지나면 확인 결과를 믿지 않고 프라이머리에서 읽음
+    private final Duration maxCheckAge;
+    // 이 인스턴스에서 카운터를 바꾼 게시글은 이 시간 동안 프라이머리에서 읽음 (자기 쓰기 읽기 보장)
+    private final Duration readYourWritesWindow;
+
+    // postId -> 프라이머리에서 읽어야 하는 마감 시각(ms)
+    private final Map<Long, Long> recentWrites = new ConcurrentHashMap<>();
+    private volatile boolean replicaUsable;
+    private volatile long checkedAt;
+
+    private ReplicaReadRouter(RedisTemplate<String, Object> primaryTemplate,
+                              StringRedisTemplate primaryStringTemplate,
+                              RedisConnectionFactory replicaConnectionFactory,
+                              RedisTemplate<String, Object> replicaTemplate,
+                              StringRedisTemplate replicaStringTemplate,
+                              int expectedReplicas,
+                              long maxLagSeconds,
+                              long maxLagBytes,
+                              Duration maxCheckAge,
+                              Duration readYourWritesWindow) {
+        this.primaryTemplate = primaryTemplate;
+        this.primaryStringTemplate = primaryStringTemplate;
+        this.replicaConnectionFactory = replicaConnectionFactory;
+        this.replicaTemplate = replicaTemplate;
+        this.replicaStringTemplate = replicaStringTemplate;
+        this.expectedReplicas = expectedReplicas;
+        this.maxLagSeconds = maxLagSeconds;
+        this.maxLagBytes = maxLagBytes;
+        this.maxCheckAge = maxCheckAge;
+        this.readYourWritesWindow = readYourWritesWindow;
+    }
+
+    // 레플리카 미사용: 모든 읽기를 프라이머리로
+    public static ReplicaReadRouter primaryOnly(RedisTemplate<String, Object> primaryTemplate,
+                                                StringRedisTemplate primaryStringTemplate) {
+        return new ReplicaReadRouter(primaryTemplate, primaryStringTemplate, null, null, null, 0, 0, 0, Duration.ZERO, Duration.ZERO);
+    }
+
+    public static ReplicaReadRouter withReplicas(RedisTemplate<String, Object> primaryTemplate,
+                                                 StringRedisTemplate primaryStringTemplate,
+                                                 RedisConnectionFactory replicaConnectionFactory,
+                                                 RedisTemplate<String, Object> replicaTemplate,
+                                                 StringRedisTemplate replicaStringTemplate,
+                                                 int expectedReplicas,
+                                                 long maxLagSeconds,
+                                                 long maxLagBytes,
+                                                 Duration maxCheckAge,
+                                                 Duration readYourWritesWindow) {
+        return new ReplicaReadRouter(primaryTemplate, primaryStringTemplate, replicaConnectionFactory,
+                replicaTemplate, replicaStringTemplate, expectedReplicas, maxLagSeconds, maxLagBytes, maxCheckAge,
+                readYourWritesWindow);
+    }
+
+    // 확인 작업이 멈춰 있으면(스케줄러 지연 등) 마지막 결과가 그대로 남으므로, 확인 시각이 오래되면 사용하지 않음
+    public boolean isReplicaUsable() {
+        return replicaUsable && System.currentTimeMillis() - checkedAt <= maxCheckAge.toMillis();
+    }
+
+    public RedisConnectionFactory getReplicaConnectionFactory() {
+        return replicaConnectionFactory;
+    }
+
+    // 게시글 DTO, 랭킹 등 몇 초 늦어도 되는 값
+    public RedisTemplate<String, Object> readTemplate() {
+        return isReplicaUsable() ? replicaTemplate : primaryTemplate;
+    }
+
+    // 좋아요/댓글 수: 이 인스턴스에서 방금 바뀐 게시글이 하나라도 있으면 프라이머리
+    public StringRedisTemplate counterReadTemplate(Collection<Long> postIds) {
+        if (!isReplicaUsable()) {
+            return primaryStringTemplate;
+        }
+
+        long now = System.currentTimeMillis();
+        for (Long postId : postIds) {
+            Long until = recentWrites.get(postId);
+            if (until != null && until > now) {
+                return primaryStringTemplate;
+            }
+        }
+        return replicaStringTemplate;
+    }
+
+    public void markWritten(Long postId) {
+        if (replicaConnectionFactory != null) {
+            recentWrites.put(postId, System.currentTimeMillis() + readYourWritesWindow.toMillis());
+        }
+    }
+
+    /**
+     * 프라이머리의 INFO replication 으로 레플리카 상태 확인
+     * 설정된 레플리카가 모두 online 이고, ACK 지연이 maxLagSeconds 이하이며 오프셋 차이가 maxLagBytes 이하일 때만 레플리카 읽기 사용
+     */
+    @Scheduled(fixedDelayString = "${redis.replica.lag-check-interval-ms:1000}")
+    public void checkReplication() {
+        if (replicaConnectionFactory == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        recentWrites.values().removeIf(until -> until <= now);
+
+        boolean usable;
+        try {
+            Properties info = primaryStringTemplate.execute(
+                    (RedisCallback<Properties>) connection -> connection.serverCommands().info("replication"));
+            usable = info != null && countHealthyReplicas(info) >= expectedReplicas;
+            checkedAt = System.currentTimeMillis();
+        } catch (Exception e) {
+            log.warn("Redis 복제 상태 확인 실패", e);
+            usable = false;
+        }
+
+        if (usable != replicaUsable) {
+            log.info("Redis 레플리카 읽기 {}", usable ? "사용" : "중단");
+        }
+        replicaUsable = usable;
+    }
+
+    // @Bean 종료 시 자동 호출 (레플리카용 연결 정리)
+    public void close() throws Exception {
+        if (replicaConnectionFactory instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+
+    // master_repl_offset:...
+    // slaveN:ip=...,port=...,state=online,offset=...,lag=0
+    private int countHealthyReplicas(Properties info) {
+        String masterOffsetValue = info.getProperty("master_repl_offset");
+        if (masterOffsetValue == null) {
+            return 0;
+        }
+        long masterOffset = Long.parseLong(masterOffsetValue.trim());
+
+        int healthy = 0;
+        for (String name : info.stringPropertyNames()) {
+            if (!name.matches("slave\\d+")) {
+                continue;
+            }
+
+            String state = null;
+            long lag = Long.MAX_VALUE;
+            long offset = -1L;
+            for (String field : info.getProperty(name).split(",")) {
+                String[] pair = field.split("=", 2);
+                if (pair.length != 2) {
+                    continue;
+                }
+                if ("state".equals(pair[0])) {
+                    state = pair[1];
+                } else if ("lag".equals(pair[0])) {
+                    lag = Long.parseLong(pair[1]);
+                } else if ("offset".equals(pair[0])) {
+                    offset = Long.parseLong(pair[1]);
+                }
+            }
+
+            if ("online".equals(state) && lag <= maxLagSeconds && offset >= 0 && masterOffset - offset <= maxLagBytes) {
+                healthy++;
+            }
+        }
+        return healthy;
+    }
+}
@@ -0,0 +1,189 @@
+package com.ureka.techpost.global.config.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ureka.techpost.global.utils.SingleFlight;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * @file StampedeGuard.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 캐시 만료 시 DB 조회가 몰리지 않도록 인스턴스 내 요청 합치기, Redis 임대(lease), 확률적 조기 갱신을 제공하는 클래스입니다.
+ */
+
+@Slf4j
+public class StampedeGuard {
+
+    private static final String LEASE_PREFIX = "lease:";
+    // 만료 시각을 기억해 둘 최대 키 수
+    private static final int MAX_KNOWN_EXPIRIES = 10_000;
+    // 로딩 시간 이동 평균에서 새 측정값의 비중
+    private static final double LOAD_TIME_WEIGHT = 0.2;
+
+    // 임대를 획득한 인스턴스만 해제하도록 토큰 비교 후 삭제
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SingleFlight<String, Object> singleFlight = new SingleFlight<>();
+
+    // 임대 유지 시간 (로딩 실패로 임대가 남아도 이 시간 후 만료)
+    private final Duration leaseTtl;
+    private final Duration pollInterval;
+    // 다른 인스턴스의 로딩을 기다리는 최대 시간, 실제로는 최근 로딩 시간의 2배까지만 기다리고 직접 로딩
+    private final Duration maxWait;
+    // 만료까지 남은 시간이 이 값에 가까울수록 조기 갱신 확률이 높아짐 (0 이면 조기 갱신 사용 안 함)
+    private final Duration earlyRefreshWindow;
+
+    // 임대를 얻어 로딩한 시간의 이동 평균
+    private volatile long averageLoadNanos;
+    // 키별로 마지막으로 확인한 Redis 만료 시각 (epoch ms)
+    // 키를 다시 쓰면 만료가 늘어날 뿐이므로 실제 만료 시각의 하한으로 사용 가능
+    private final Cache<String, Long> knownExpiries = Caffeine.newBuilder()
+            .maximumSize(MAX_KNOWN_EXPIRIES)
+            .build();
+
+    public StampedeGuard(StringRedisTemplate stringRedisTemplate, Duration leaseTtl,
+                         Duration pollInterval, Duration maxWait, Duration earlyRefreshWindow) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.leaseTtl = leaseTtl;
+        this.pollInterval = pollInterval;
+        this.maxWait = maxWait;
+        this.earlyRefreshWindow = earlyRefreshWindow;
+        this.averageLoadNanos = maxWait.toNanos() / 2;
+    }
+
+    /**
+     * 캐시 미스 로딩
+     * 1. 같은 인스턴스의 동시 요청은 하나로 합침
+     * 2. 임대를 얻은 인스턴스만 loader 실행 (loader 는 캐시 저장까지 담당)
+     * 3. 임대를 얻지 못하면 다른 인스턴스가 채운 캐시를 기다렸다가 사용, 예상 로딩 시간이 지나도 없으면 직접 로딩
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String key, Supplier<T> cachedReader, Supplier<T> loader) {
+        return (T) singleFlight.execute(key, () -> {
+            String token = tryAcquireLease(key);
+            if (token != null) {
+                long startedAt = System.nanoTime();
+                try {
+                    return loader.get();
+                } finally {
+                    recordLoadTime(System.nanoTime() - startedAt);
+                    releaseLease(key, token);
+                }
+            }
+
+            T cached = awaitCached(cachedReader);
+            return cached != null ? cached : loader.get();
+        });
+    }
+
+    /**
+     * 확률적 조기 갱신 (XFetch)
+     * 남은 TTL 이 -window * ln(rand) 보다 작으면 갱신 대상, 만료가 가까울수록 확률이 높아짐
+     * 원래 식의 (로딩 시간 x beta) 대신 설정값을 쓰는 이유: 핫 키는 L1 에서 응답되어 Redis 를 드물게 조회하므로
+     * 로딩 시간(수십 ms) 기준으로는 만료 직전에 갱신 기회를 잡기 어려움
+     * 기준값을 먼저 뽑고, 기억해 둔 만료 시각만으로 기준보다 충분히 남았다고 판단되면 PTTL 조회를 생략
+     */
+    public boolean shouldRefreshEarly(String redisKey) {
+        if (earlyRefreshWindow.isZero()) {
+            return false;
+        }
+
+        double threshold = -earlyRefreshWindow.toMillis() * Math.log(ThreadLocalRandom.current().nextDouble());
+        long now = System.currentTimeMillis();
+
+        Long expiresAt = knownExpiries.getIfPresent(redisKey);
+        if (expiresAt != null && expiresAt - now >= threshold) {
+            return false;
+        }
+
+        Long ttlMillis = stringRedisTemplate.getExpire(redisKey, TimeUnit.MILLISECONDS);
+        if (ttlMillis == null || ttlMillis < 0) {
+            knownExpiries.invalidate(redisKey);
+            return false;
+        }
+
+        knownExpiries.put(redisKey, now + ttlMillis);
+        return ttlMillis < threshold;
+    }
+
+    /**
+     * 조기 갱신 실행
+     * 다른 인스턴스/요청이 이미 갱신 중이면 건너뛰고 false 반환
+     */
+    public boolean refresh(String key, Runnable refresher) {
+        String token = tryAcquireLease(key);
+        if (token == null) {
+            return false;
+        }
+
+        try {
+            refresher.run();
+            return true;
+        } finally {
+            releaseLease(key, token);
+        }
+    }
+
+    private String tryAcquireLease(String key) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(LEASE_PREFIX + key, token, leaseTtl);
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            // Redis 장애 시에는 인스턴스 내 합치기만 적용하고 로딩은 진행
+            log.warn("캐시 임대 획득 실패 - key: {}", key, e);
+            return token;
+        }
+    }
+
+    private void releaseLease(String key, String token) {
+        try {
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_PREFIX + key), token);
+        } catch (Exception e) {
+            log.warn("캐시 임대 해제 실패 - key: {}", key, e);
+        }
+    }
+
+    // 측정값끼리 경합해도 평균이 조금 어긋날 뿐이므로 잠금 없이 갱신
+    private void recordLoadTime(long nanos) {
+        averageLoadNanos = (long) (averageLoadNanos * (1 - LOAD_TIME_WEIGHT) + nanos * LOAD_TIME_WEIGHT);
+    }
+
+    /**
+     * 다른 인스턴스가 채운 캐시를 기다림
+     * 최근 로딩 시간의 2배(최소 poll 간격, 최대 maxWait)까지만 기다리고, 그래도 없으면 null 을 반환해 직접 로딩
+     */
+    private <T> T awaitCached(Supplier<T> cachedReader) {
+        long budget = Math.min(maxWait.toNanos(), Math.max(pollInterval.toNanos(), averageLoadNanos * 2));
+        long deadline = System.nanoTime() + budget;
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(pollInterval.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+
+            T cached = cachedReader.get();
+            if (cached != null) {
+                return cached;
+            }
+        }
+        return null;
+    }
+}
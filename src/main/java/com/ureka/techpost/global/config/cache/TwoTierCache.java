@@ -0,0 +1,182 @@
+package com.ureka.techpost.global.config.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * @file TwoTierCache.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 로컬(Caffeine) 캐시를 L1, Redis 캐시를 L2로 두는 2단 캐시 구현 클래스입니다.
+ */
+
+@Slf4j
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache redisCache;
+    // L2 히트 조회용 (레플리카 사용 가능하면 레플리카, 아니면 redisCache)
+    private final Supplier<Cache> readCache;
+    private final TwoTierCacheManager cacheManager;
+    private final StampedeGuard stampedeGuard;
+    // Redis 에 실제로 저장되는 키의 접두사 (예: posts::)
+    private final String redisKeyPrefix;
+
+    // 로컬 캐시의 객체를 호출자가 수정해도 다른 요청에 영향이 없도록 복사본을 주고받음
+    private final UnaryOperator<Object> valueCopier;
+
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                        Cache redisCache,
+                        Supplier<Cache> readCache,
+                        TwoTierCacheManager cacheManager,
+                        StampedeGuard stampedeGuard,
+                        String redisKeyPrefix,
+                        UnaryOperator<Object> valueCopier) {
+        super(true);
+        this.name = name;
+        this.localCache = localCache;
+        this.redisCache = redisCache;
+        this.readCache = readCache;
+        this.cacheManager = cacheManager;
+        this.stampedeGuard = stampedeGuard;
+        this.redisKeyPrefix = redisKeyPrefix;
+        this.valueCopier = valueCopier;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = toLocalKey(key);
+
+        // L1 히트 -> 네트워크 왕복 없이 반환
+        Object local = localCache.getIfPresent(localKey);
+        if (local != null) {
+            return valueCopier.apply(local);
+        }
+
+        // L1 미스 -> Redis 조회 후 L1에 채워넣기
+        ValueWrapper wrapper = readCache.get().get(key);
+        if (wrapper == null) {
+            return null;
+        }
+
+        Object storeValue = toStoreValue(wrapper.get());
+        localCache.put(localKey, valueCopier.apply(storeValue));
+        return storeValue;
+    }
+
+    /**
+     * @Cacheable(sync = true) 경로
+     * L1 미스 시 Redis 조회, Redis 미스 시 StampedeGuard 로 DB 로딩을 인스턴스/클러스터 단위로 한 번만 실행
+     * Redis 히트여도 만료가 가까우면 확률적으로 미리 다시 로딩
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+
+        Object local = localCache.getIfPresent(localKey);
+        if (local != null) {
+            return (T) fromStoreValue(valueCopier.apply(local));
+        }
+
+        String redisKey = redisKeyPrefix + localKey;
+        ValueWrapper wrapper = readCache.get().get(key);
+
+        if (wrapper != null) {
+            Object storeValue = toStoreValue(wrapper.get());
+            // 음성 캐시(없는 키)는 짧은 TTL 로 자연 만료되도록 조기 갱신하지 않음
+            if (wrapper.get() != null && stampedeGuard.shouldRefreshEarly(redisKey)) {
+                Object refreshed = refreshEarly(key, redisKey, valueLoader);
+                if (refreshed != null) {
+                    storeValue = refreshed;
+                }
+            }
+            localCache.put(localKey, valueCopier.apply(storeValue));
+            return (T) fromStoreValue(valueCopier.apply(storeValue));
+        }
+
+        // 기다리던 요청들이 같은 인스턴스를 공유하지 않도록 각자 복사본을 반환
+        Object storeValue = stampedeGuard.load(redisKey,
+                () -> {
+                    ValueWrapper cached = redisCache.get(key);
+                    return cached == null ? null : toStoreValue(cached.get());
+                },
+                () -> loadAndPut(key, valueLoader));
+        return (T) fromStoreValue(valueCopier.apply(storeValue));
+    }
+
+    private Object loadAndPut(Object key, Callable<?> valueLoader) {
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return toStoreValue(value);
+    }
+
+    // 조기 갱신은 최선 시도이므로 실패해도 기존 값을 그대로 사용
+    private Object refreshEarly(Object key, String redisKey, Callable<?> valueLoader) {
+        Object[] refreshed = new Object[1];
+        try {
+            stampedeGuard.refresh(redisKey, () -> refreshed[0] = loadAndPut(key, valueLoader));
+        } catch (RuntimeException e) {
+            log.debug("캐시 조기 갱신 실패 - cache: {}, key: {}", name, key, e);
+        }
+        return refreshed[0];
+    }
+
+    // put 은 캐시 채우기 용도이므로 다른 인스턴스에 무효화를 전파하지 않음
+    @Override
+    public void put(Object key, Object value) {
+        redisCache.put(key, value);
+        localCache.put(toLocalKey(key), valueCopier.apply(toStoreValue(value)));
+    }
+
+    // 게시글 삭제/수정 시 모든 인스턴스의 L1에서 제거되도록 pub/sub 으로 전파
+    @Override
+    public void evict(Object key) {
+        redisCache.evict(key);
+        evictLocal(toLocalKey(key));
+        cacheManager.publishInvalidation(name, toLocalKey(key));
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        clearLocal();
+        cacheManager.publishInvalidation(name, TwoTierCacheManager.ALL_KEYS);
+    }
+
+    void evictLocal(String localKey) {
+        localCache.invalidate(localKey);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    // pub/sub 메시지로 받은 키와 비교할 수 있도록 문자열로 통일
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,141 @@
+package com.ureka.techpost.global.config.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+import java.util.function.UnaryOperator;
+
+/**
+ * @file TwoTierCacheManager.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description RedisCacheManager 앞에 로컬 캐시를 두고, Redis pub/sub 으로 인스턴스 간 무효화를 전파하는 CacheManager 입니다.
+ */
+
+@Slf4j
+public class TwoTierCacheManager implements CacheManager {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    static final String ALL_KEYS = "*";
+
+    // 메시지 구분자: {instanceId}|{cacheName}|{key}
+    private static final String DELIMITER = "|";
+
+    private final RedisCacheManager redisCacheManager;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final StampedeGuard stampedeGuard;
+
+    // L2 히트 조회용 레플리카 캐시 (복제 지연이 허용 범위일 때만 사용), 미사용 시 null
+    private RedisCacheManager replicaCacheManager;
+    private BooleanSupplier replicaUsable = () -> false;
+
+    // 자기 자신이 발행한 무효화 메시지는 무시하기 위한 인스턴스 식별자
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // L1 을 적용할 캐시 이름과 설정
+    private final Map<String, LocalCacheSpec> localSpecs = new ConcurrentHashMap<>();
+    private final Map<String, TwoTierCache> twoTierCaches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(RedisCacheManager redisCacheManager, StringRedisTemplate stringRedisTemplate,
+                               StampedeGuard stampedeGuard) {
+        this.redisCacheManager = redisCacheManager;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.stampedeGuard = stampedeGuard;
+    }
+
+    /**
+     * 특정 캐시에 L1 로컬 캐시를 적용
+     * maxWeight 는 weigher 가 계산한 추정 바이트 수의 합계 상한
+     */
+    public TwoTierCacheManager withLocalCache(String cacheName, long maxWeight, Duration ttl,
+                                              ToIntFunction<Object> weigher, UnaryOperator<Object> valueCopier) {
+        localSpecs.put(cacheName, new LocalCacheSpec(maxWeight, ttl, weigher, valueCopier));
+        return this;
+    }
+
+    // L2 조회를 레플리카로 보냄 (쓰기, 로딩 중 대기, 조기 갱신은 프라이머리)
+    public TwoTierCacheManager withReplicaReads(RedisCacheManager replicaCacheManager, BooleanSupplier replicaUsable) {
+        this.replicaCacheManager = replicaCacheManager;
+        this.replicaUsable = replicaUsable;
+        return this;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        LocalCacheSpec spec = localSpecs.get(name);
+        if (spec == null) {
+            return redisCacheManager.getCache(name);
+        }
+        return twoTierCaches.computeIfAbsent(name, cacheName -> createTwoTierCache(cacheName, spec));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+
+    private TwoTierCache createTwoTierCache(String name, LocalCacheSpec spec) {
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                .maximumWeight(spec.maxWeight())
+                .weigher((String key, Object value) -> spec.weigher().applyAsInt(value))
+                .expireAfterWrite(spec.ttl())
+                .build();
+
+        RedisCache redisCache = (RedisCache) redisCacheManager.getCache(name);
+        String redisKeyPrefix = redisCache.getCacheConfiguration().getKeyPrefixFor(name);
+
+        Cache replicaCache = replicaCacheManager == null ? null : replicaCacheManager.getCache(name);
+        Supplier<Cache> readCache = replicaCache == null
+                ? () -> redisCache
+                : () -> replicaUsable.getAsBoolean() ? replicaCache : redisCache;
+
+        return new TwoTierCache(name, localCache, redisCache, readCache, this, stampedeGuard, redisKeyPrefix, spec.valueCopier());
+    }
+
+    // 다른 인스턴스에 L1 무효화 요청 발행
+    void publishInvalidation(String cacheName, String key) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, instanceId + DELIMITER + cacheName + DELIMITER + key);
+        } catch (Exception e) {
+            // 발행 실패 시에도 L1 TTL 이 지나면 자연히 갱신되므로 요청은 실패시키지 않음
+            log.warn("캐시 무효화 메시지 발행 실패 - cache: {}, key: {}", cacheName, key, e);
+        }
+    }
+
+    // 다른 인스턴스가 발행한 무효화 메시지 처리
+    public void onInvalidationMessage(String message) {
+        String[] parts = message.split("\\|", 3);
+        if (parts.length != 3 || instanceId.equals(parts[0])) {
+            return;
+        }
+
+        TwoTierCache cache = twoTierCaches.get(parts[1]);
+        if (cache == null) {
+            return;
+        }
+
+        if (ALL_KEYS.equals(parts[2])) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[2]);
+        }
+    }
+
+    private record LocalCacheSpec(long maxWeight, Duration ttl,
+                                  ToIntFunction<Object> weigher, UnaryOperator<Object> valueCopier) {
+    }
+}
@@ -16,6 +16,8 @@ public enum ErrorCode {
     USER_NOT_MATCH(HttpStatus.FORBIDDEN, "수정 및 삭제 권한이 없습니다."),
     ALREADY_LIKED(HttpStatus.CONFLICT, "이미 좋아요를 누르셨습니다."),
     LIKE_NOT_FOUND(HttpStatus.NOT_FOUND, "좋아요를 누르지 않았습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 커서입니다."),
+    INVALID_POPULAR_RANKING(HttpStatus.BAD_REQUEST, "지원하지 않는 인기글 기준입니다."),
 
     //Auth
     USER_ALREADY_EXISTS(HttpStatus.CONFLICT,"이미 가입 되어있는 회원 입니다."),//409
@@ -0,0 +1,47 @@
+package com.ureka.techpost.global.utils;
+
+import com.ureka.techpost.global.exception.CustomException;
+import com.ureka.techpost.global.exception.ErrorCode;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * @file CursorUtil.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 커서 기반 목록 조회에서 마지막으로 조회한 ID 를 불투명한 커서 문자열로 변환하고 복원하는 유틸 클래스입니다.
+ */
+
+public final class CursorUtil {
+
+    private CursorUtil() {
+    }
+
+    /**
+     * 마지막으로 조회한 ID 를 클라이언트에 내려줄 불투명한 커서 문자열로 변환
+     */
+    public static String encode(Long lastId) {
+        if (lastId == null) {
+            return null;
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(lastId.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 ID 로 복원 (빈 값이면 첫 페이지이므로 null)
+     */
+    public static Long decode(String cursor) {
+        if (!StringUtils.hasText(cursor)) {
+            return null;
+        }
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException e) {
+            throw new CustomException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.ureka.techpost.global.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * @file HotKeyDetector.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 조회를 일정 비율로 샘플링해 시간 창(window)별 조회 수를 추정하고, 임계값을 넘은 키를 일정 시간 동안 핫 키로 표시하는 클래스입니다.
+ */
+
+public class HotKeyDetector<K> {
+
+    // 샘플 1건이 대표하는 조회 수 (1 이면 모든 조회를 기록)
+    private final int sampleRate;
+    // 한 창에서 추정 조회 수가 이 값 이상이면 핫 키
+    private final long threshold;
+    private final long windowMillis;
+    // 마지막으로 임계값을 넘은 뒤 핫 키로 유지하는 시간 (창 경계에서 켜졌다 꺼졌다 하지 않도록)
+    private final long holdMillis;
+    // 한 창에서 추적하는 최대 키 수 (다양한 키가 몰려도 메모리 사용량 제한)
+    private final int maxTracked;
+    private final LongSupplier clock;
+
+    private volatile Window window;
+    private final Map<K, HotKey> hotKeys = new ConcurrentHashMap<>();
+
+    public HotKeyDetector(int sampleRate, long threshold, long windowMillis, long holdMillis, int maxTracked,
+                          LongSupplier clock) {
+        this.sampleRate = Math.max(sampleRate, 1);
+        this.threshold = threshold;
+        this.windowMillis = windowMillis;
+        this.holdMillis = holdMillis;
+        this.maxTracked = maxTracked;
+        this.clock = clock;
+        this.window = new Window(clock.getAsLong());
+    }
+
+    /**
+     * 조회 1건 기록
+     *
+     * @return 현재 핫 키인지 여부
+     */
+    public boolean record(K key) {
+        long now = clock.getAsLong();
+
+        if (sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0) {
+            Window current = currentWindow(now);
+            LongAdder counter = current.counts.get(key);
+            if (counter == null && current.counts.size() < maxTracked) {
+                counter = current.counts.computeIfAbsent(key, k -> new LongAdder());
+            }
+
+            if (counter != null) {
+                counter.increment();
+                long estimated = counter.sum() * sampleRate;
+                if (estimated >= threshold) {
+                    hotKeys.put(key, new HotKey(now + holdMillis, estimated * 1000 / windowMillis));
+                }
+            }
+        }
+
+        return isHot(key, now);
+    }
+
+    public boolean isHot(K key) {
+        return isHot(key, clock.getAsLong());
+    }
+
+    // 현재 핫 키와 마지막으로 감지했을 때의 초당 추정 조회 수
+    public Map<K, Long> hotKeys() {
+        long now = clock.getAsLong();
+        hotKeys.values().removeIf(hotKey -> hotKey.until() <= now);
+
+        Map<K, Long> result = new HashMap<>();
+        hotKeys.forEach((key, hotKey) -> result.put(key, hotKey.readsPerSecond()));
+        return result;
+    }
+
+    private boolean isHot(K key, long now) {
+        HotKey hotKey = hotKeys.get(key);
+        return hotKey != null && hotKey.until() > now;
+    }
+
+    // 창이 지났으면 새 창으로 교체 (동시에 교체를 시도해도 한 스레드만 성공)
+    private Window currentWindow(long now) {
+        Window current = window;
+        if (now - current.start < windowMillis) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (now - window.start >= windowMillis) {
+                window = new Window(now);
+            }
+            return window;
+        }
+    }
+
+    private static final class Window {
+        private final long start;
+        private final Map<Object, LongAdder> counts = new ConcurrentHashMap<>();
+
+        private Window(long start) {
+            this.start = start;
+        }
+    }
+
+    private record HotKey(long until, long readsPerSecond) {
+    }
+}
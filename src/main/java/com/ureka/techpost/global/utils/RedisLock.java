@@ -0,0 +1,46 @@
+package com.ureka.techpost.global.utils;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * @file RedisLock.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 여러 인스턴스 중 하나만 작업을 실행하도록 Redis 키에 토큰을 저장하는 잠금 유틸 클래스입니다. 획득한 토큰과 같을 때만 해제하므로 TTL 이 지난 뒤 다른 인스턴스가 가진 잠금을 지우지 않습니다.
+ */
+
+public final class RedisLock {
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private RedisLock() {
+    }
+
+    /**
+     * 잠금 획득
+     *
+     * @return 해제에 사용할 토큰 (다른 인스턴스가 가지고 있으면 null)
+     */
+    public static String tryAcquire(StringRedisTemplate stringRedisTemplate, String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(key, token, ttl)) ? token : null;
+    }
+
+    // 아직 이 토큰으로 잠금을 가지고 있는지 (오래 걸리는 작업이 배치 사이에 확인)
+    public static boolean isHeld(StringRedisTemplate stringRedisTemplate, String key, String token) {
+        return token.equals(stringRedisTemplate.opsForValue().get(key));
+    }
+
+    public static void release(StringRedisTemplate stringRedisTemplate, String key, String token) {
+        stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(key), token);
+    }
+}
@@ -0,0 +1,61 @@
+package com.ureka.techpost.global.utils;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * @file SingleFlight.java
+ * @author 최승언
+ * @version 1.0
+ * @since 2026-10-18
+ * @description 같은 키에 대한 동시 요청을 하나로 합쳐, 먼저 들어온 요청의 결과를 나머지 요청이 함께 사용하도록 하는 유틸 클래스입니다.
+ */
+
+public class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 진행 중인 같은 키의 작업이 있으면 그 결과를 기다리고, 없으면 직접 실행
+     * 실행 중 발생한 예외는 기다리던 요청에도 그대로 전달됨
+     */
+    public V execute(K key, Supplier<V> supplier) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            V value = supplier.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            // 완료된 작업은 바로 제거하여 이후 요청은 최신 값을 다시 조회
+            inFlight.remove(key, call);
+        }
+    }
+
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
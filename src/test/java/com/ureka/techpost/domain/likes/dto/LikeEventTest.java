@@ -0,0 +1,36 @@
+package com.ureka.techpost.domain.likes.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LikeEventTest {
+
+    @Test
+    // 좋아요 후 취소처럼 원래 상태로 돌아온 쌍은 제거되고, 나머지는 마지막 상태만 남는지 검증
+    void coalesce_cancelsOutRoundTrips() {
+        List<LikeEvent> events = List.of(
+                new LikeEvent(1L, 10L, true),
+                new LikeEvent(2L, 10L, true),
+                new LikeEvent(1L, 10L, false),
+                new LikeEvent(3L, 10L, false),
+                new LikeEvent(2L, 10L, false),
+                new LikeEvent(2L, 10L, true));
+
+        assertEquals(List.of(new LikeEvent(2L, 10L, true), new LikeEvent(3L, 10L, false)),
+                LikeEvent.coalesce(events));
+    }
+
+    @Test
+    // 같은 사용자라도 게시글이 다르면 따로 합치는지 검증
+    void coalesce_keepsPairsSeparate() {
+        List<LikeEvent> events = List.of(
+                new LikeEvent(1L, 10L, true),
+                new LikeEvent(1L, 20L, true),
+                new LikeEvent(1L, 10L, false));
+
+        assertEquals(List.of(new LikeEvent(1L, 20L, true)), LikeEvent.coalesce(events));
+    }
+}
@@ -0,0 +1,80 @@
+package com.ureka.techpost.domain.post.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedCounterBufferTest {
+
+    @Test
+    // 같은 게시글의 증감은 순 증감분 하나로 합쳐지고, 꺼낸 뒤에는 비워지는지 검증
+    void drain_returnsNetDeltas() {
+        var buffer = new StripedCounterBuffer(4, 2);
+        buffer.add(1L, 0, 1);
+        buffer.add(1L, 0, 1);
+        buffer.add(1L, 0, -1);
+        buffer.add(1L, 1, 5);
+        buffer.add(2L, 0, 3);
+
+        // 기대: 꺼내기 전에는 조회 시 반영 대기 중인 증감분이 보임
+        assertEquals(1L, buffer.pending(1L, 0));
+
+        Map<Long, long[]> drained = buffer.drain();
+
+        assertEquals(1L, drained.get(1L)[0]);
+        assertEquals(5L, drained.get(1L)[1]);
+        assertEquals(3L, drained.get(2L)[0]);
+
+        // 기대: 반영이 끝나기 전(전송 중)에도 조회에서 빠지지 않고, 끝난 뒤에는 비워짐
+        assertEquals(1L, buffer.pending(1L, 0));
+        buffer.complete();
+        assertEquals(0L, buffer.pending(1L, 0));
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    // 여러 스레드가 증감하는 도중 반복해서 꺼내도 증감분이 유실되지 않는지 검증
+    void drain_concurrentAddsAreNotLost() throws Exception {
+        var buffer = new StripedCounterBuffer(8, 1);
+        var drainedTotal = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        for (int t = 0; t < 4; t++) {
+            executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    buffer.add((long) (i % 16), 0, 1);
+                }
+            });
+        }
+
+        executor.shutdown();
+
+        while (!executor.awaitTermination(1, TimeUnit.MILLISECONDS)) {
+            buffer.drain().values().forEach(values -> drainedTotal.addAndGet(values[0]));
+        }
+        buffer.drain().values().forEach(values -> drainedTotal.addAndGet(values[0]));
+
+        // 기대: 4 스레드 x 10,000 회
+        assertEquals(40_000L, drainedTotal.get());
+    }
+
+    @Test
+    // 반영에 실패해 되돌린 증감분이 새로 들어온 증감분과 합쳐지는지 검증
+    void restore_mergesFailedDeltasBack() {
+        var buffer = new StripedCounterBuffer(4, 1);
+        buffer.add(7L, 0, 2);
+        buffer.drain();
+
+        buffer.add(7L, 0, 1);
+        buffer.restore();
+
+        assertEquals(3L, buffer.pending(7L, 0));
+        assertEquals(3L, buffer.drain().get(7L)[0]);
+    }
+}
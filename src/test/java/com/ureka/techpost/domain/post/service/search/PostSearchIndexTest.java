@@ -0,0 +1,82 @@
+package com.ureka.techpost.domain.post.service.search;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PostSearchIndexTest {
+
+    @Test
+    // 한글 키워드가 단어 중간에 있어도 부분 일치로 검색되는지 검증
+    void search_matchesKoreanSubstring() {
+        var index = new PostSearchIndex();
+        index.add(1L, "카카오페이 결제 시스템 개선기", "대용량 트래픽 처리", "카카오 기술 블로그");
+        index.add(2L, "토스 프론트엔드 챕터", "디자인 시스템", "토스 기술 블로그");
+
+        Page<Long> result = index.search("페이", null, PageRequest.of(0, 10));
+
+        // 기대: '카카오페이' 를 포함한 1번 게시글만 조회
+        assertEquals(List.of(1L), result.getContent());
+        assertEquals(1, result.getTotalElements());
+    }
+
+    @Test
+    // 제목 일치가 요약 일치보다 높은 순위를 갖고, 동점이면 최신(ID 큰) 순인지 검증
+    void search_ranksTitleMatchesFirst() {
+        var index = new PostSearchIndex();
+        index.add(1L, "Spring Boot 3 마이그레이션", "JPA 설정 정리", "우아한형제들");
+        index.add(2L, "Redis 캐시 전략", "Spring 캐시 추상화 적용", "토스");
+        index.add(3L, "spring batch 성능 개선", "청크 크기 조정", "카카오");
+
+        Page<Long> result = index.search("SPRING", null, PageRequest.of(0, 10));
+
+        // 기대: 대소문자 구분 없이 제목 일치(3, 1) -> 요약 일치(2) 순서
+        assertEquals(List.of(3L, 1L, 2L), result.getContent());
+    }
+
+    @Test
+    // 출처 필터, 페이징, 삭제가 반영되는지 검증
+    void search_appliesSourceFilterPagingAndRemoval() {
+        var index = new PostSearchIndex();
+        index.add(1L, "개발자 회고", "2025 회고", "토스 기술 블로그");
+        index.add(2L, "신입 개발자 온보딩", "온보딩 과정", "토스 기술 블로그");
+        index.add(3L, "개발자 컨퍼런스 후기", "발표 정리", "카카오 기술 블로그");
+
+        // 기대: 출처 필터 적용
+        assertEquals(List.of(2L, 1L), index.search("개발자", "토스", PageRequest.of(0, 10)).getContent());
+
+        // 기대: 두 번째 페이지에는 남은 1건, 전체 개수는 3
+        Page<Long> secondPage = index.search("개발자", null, PageRequest.of(1, 2));
+        assertEquals(List.of(1L), secondPage.getContent());
+        assertEquals(3, secondPage.getTotalElements());
+
+        // 기대: 삭제된 게시글은 검색되지 않음
+        index.remove(2L);
+        assertEquals(List.of(3L, 1L), index.search("개발자", null, PageRequest.of(0, 10)).getContent());
+    }
+
+    @Test
+    // 삭제/수정 시 이전 필드의 n-gram 색인이 정리되는지 검증
+    void removeAndUpdate_pruneStalePostings() {
+        var index = new PostSearchIndex();
+        index.add(1L, "카프카 컨슈머", "리밸런싱", "토스");
+        index.add(2L, "레디스 클러스터", "슬롯 재배치", "카카오");
+        var onlySecond = new PostSearchIndex();
+        onlySecond.add(2L, "레디스 클러스터", "슬롯 재배치", "카카오");
+
+        // 기대: 삭제된 게시글에만 있던 n-gram 이 남지 않음
+        index.remove(1L);
+        assertEquals(onlySecond.gramCount(), index.gramCount());
+
+        // 기대: 수정된 게시글은 새 필드로만 검색되고 이전 n-gram 은 정리됨
+        index.add(2L, "카프카 컨슈머", "리밸런싱", "토스");
+        assertEquals(List.of(), index.search("레디스", null, PageRequest.of(0, 10)).getContent());
+        assertEquals(List.of(2L), index.search("카프카", null, PageRequest.of(0, 10)).getContent());
+        index.remove(2L);
+        assertEquals(0, index.gramCount());
+    }
+}
@@ -0,0 +1,83 @@
+package com.ureka.techpost.global.config.cache;
+
+import com.ureka.techpost.domain.post.dto.PopularPostsSnapshot;
+import com.ureka.techpost.domain.post.dto.PostResponseDTO;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기존 JSON(default typing) 직렬화와 바이너리 직렬화의 크기/속도 비교
+ * 기본 test 태스크에서는 제외되며 ./gradlew benchmark 로 실행
+ */
+@Tag("benchmark")
+class CompactRedisSerializerBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURE_ITERATIONS = 100_000;
+
+    // JIT 가 결과를 버리지 않도록 누적
+    private long blackhole;
+
+    @Test
+    void postResponseDto() {
+        run("PostResponseDTO", CompactRedisSerializerTest.samplePost(123_456L));
+    }
+
+    @Test
+    void popularPostsSnapshot() {
+        List<Long> rankingIds = new ArrayList<>();
+        List<PostResponseDTO> posts = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            rankingIds.add(id);
+            posts.add(CompactRedisSerializerTest.samplePost(id));
+        }
+        run("PopularPostsSnapshot(10)", new PopularPostsSnapshot(rankingIds, posts, LocalDateTime.now()));
+    }
+
+    private void run(String name, Object value) {
+        RedisSerializer<Object> json = CompactRedisSerializerTest.jsonSerializer();
+        RedisSerializer<Object> compact = new CompactRedisSerializer(CompactRedisSerializerTest.jsonSerializer());
+
+        byte[] jsonBytes = json.serialize(value);
+        byte[] compactBytes = compact.serialize(value);
+
+        Result jsonResult = measure(json, value);
+        Result compactResult = measure(compact, value);
+
+        System.out.printf("[%s] size json=%dB compact=%dB (%.1f%%)%n",
+                name, jsonBytes.length, compactBytes.length, 100.0 * compactBytes.length / jsonBytes.length);
+        System.out.printf("[%s] serialize   json=%dns compact=%dns%n", name, jsonResult.serializeNanos(), compactResult.serializeNanos());
+        System.out.printf("[%s] deserialize json=%dns compact=%dns%n", name, jsonResult.deserializeNanos(), compactResult.deserializeNanos());
+    }
+
+    private Result measure(RedisSerializer<Object> serializer, Object value) {
+        byte[] bytes = serializer.serialize(value);
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            blackhole += serializer.serialize(value).length;
+            blackhole += serializer.deserialize(bytes).hashCode();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            blackhole += serializer.serialize(value).length;
+        }
+        long serializeNanos = (System.nanoTime() - start) / MEASURE_ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < MEASURE_ITERATIONS; i++) {
+            blackhole += serializer.deserialize(bytes).hashCode();
+        }
+        long deserializeNanos = (System.nanoTime() - start) / MEASURE_ITERATIONS;
+
+        return new Result(serializeNanos, deserializeNanos);
+    }
+
+    private record Result(long serializeNanos, long deserializeNanos) {
+    }
+}
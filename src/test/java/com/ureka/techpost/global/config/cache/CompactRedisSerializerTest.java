@@ -0,0 +1,118 @@
+package com.ureka.techpost.global.config.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.ureka.techpost.domain.post.dto.PopularPostsSnapshot;
+import com.ureka.techpost.domain.post.dto.PostResponseDTO;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactRedisSerializerTest {
+
+    // RedisConfig 의 기존 JSON 직렬화 설정과 동일
+    static GenericJackson2JsonRedisSerializer jsonSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(), ObjectMapper.DefaultTyping.NON_FINAL);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    static PostResponseDTO samplePost(long id) {
+        return new PostResponseDTO(id, "Spring Boot 3 마이그레이션 후기", "JPA 설정과 캐시 전략 정리",
+                "https://tech.example.com/posts/" + id, null, "우아한형제들",
+                LocalDateTime.of(2025, 12, 9, 10, 30, 15, 123_000_000), "우아한형제들 기술 블로그",
+                LocalDateTime.of(2025, 12, 10, 8, 0), 42L, -1L);
+    }
+
+    @Test
+    // 게시글 DTO 가 null 필드와 음수, 나노초까지 그대로 복원되는지 검증
+    void post_roundTrip() {
+        var serializer = new CompactRedisSerializer(jsonSerializer());
+        PostResponseDTO post = samplePost(7L);
+
+        byte[] bytes = serializer.serialize(post);
+        PostResponseDTO restored = (PostResponseDTO) serializer.deserialize(bytes);
+
+        // 기대: 바이너리 포맷으로 저장되고 모든 필드가 동일
+        assertEquals(CompactRedisSerializer.MAGIC, bytes[0]);
+        assertEquals(post.getId(), restored.getId());
+        assertEquals(post.getTitle(), restored.getTitle());
+        assertNull(restored.getThumbnailUrl());
+        assertEquals(post.getPublishedAt(), restored.getPublishedAt());
+        assertEquals(post.getCreatedAt(), restored.getCreatedAt());
+        assertEquals(-1L, restored.getCommentCount());
+        assertEquals(Boolean.FALSE, restored.getIsLiked());
+    }
+
+    @Test
+    // 인기글 스냅샷의 목록 순서가 유지되고, 리스트가 수정 가능한 ArrayList 로 복원되는지 검증
+    void popularSnapshot_roundTrip() {
+        var serializer = new CompactRedisSerializer(jsonSerializer());
+        var snapshot = new PopularPostsSnapshot(new ArrayList<>(List.of(3L, 1L)),
+                new ArrayList<>(List.of(samplePost(3L), samplePost(1L))), LocalDateTime.of(2026, 10, 18, 12, 0));
+
+        var restored = (PopularPostsSnapshot) serializer.deserialize(serializer.serialize(snapshot));
+
+        assertEquals(List.of(3L, 1L), restored.getRankingIds());
+        assertEquals(3L, restored.getPosts().get(0).getId());
+        assertEquals(snapshot.getBuiltAt(), restored.getBuiltAt());
+        assertInstanceOf(ArrayList.class, restored.getPosts());
+    }
+
+    @Test
+    // 바이너리 포맷 도입 전에 JSON 으로 저장된 항목도 읽을 수 있는지 검증
+    void deserialize_readsLegacyJson() {
+        var json = jsonSerializer();
+        var serializer = new CompactRedisSerializer(json);
+
+        byte[] legacy = json.serialize(samplePost(5L));
+        PostResponseDTO restored = (PostResponseDTO) serializer.deserialize(legacy);
+
+        assertEquals(5L, restored.getId());
+        assertEquals(samplePost(5L).getPublishedAt(), restored.getPublishedAt());
+    }
+
+    @Test
+    // 그 외 타입(랭킹 멤버 문자열 등)은 기존과 같은 JSON 바이트로 저장되는지 검증
+    void otherTypes_delegateToJson() {
+        var json = jsonSerializer();
+        var serializer = new CompactRedisSerializer(json);
+
+        assertArrayEquals(json.serialize("123"), serializer.serialize("123"));
+        assertEquals("123", serializer.deserialize(serializer.serialize("123")));
+    }
+
+    @Test
+    // 음성 캐시 표시(NullValue)는 JSON 모드에서도 바이너리 표시로 저장되고 그대로 복원되는지 검증
+    void nullValue_roundTripInBothModes() {
+        var json = jsonSerializer();
+        var jsonMode = new CompactRedisSerializer(json, false);
+
+        byte[] bytes = jsonMode.serialize(NullValue.INSTANCE);
+
+        assertArrayEquals(new byte[]{CompactRedisSerializer.MAGIC, CompactRedisSerializer.TYPE_NULL_VALUE}, bytes);
+        assertSame(NullValue.INSTANCE, new CompactRedisSerializer(json).deserialize(bytes));
+        // JSON 모드에서 게시글 DTO 는 기존 JSON 그대로
+        assertArrayEquals(json.serialize(samplePost(1L)), jsonMode.serialize(samplePost(1L)));
+    }
+
+    @Test
+    // 알 수 없는 스키마 버전은 잘못된 값으로 읽지 않고 예외로 처리하는지 검증
+    void deserialize_rejectsUnknownVersion() {
+        var serializer = new CompactRedisSerializer(jsonSerializer());
+        byte[] bytes = serializer.serialize(samplePost(1L));
+        bytes[2] = 99;
+
+        assertThrows(SerializationException.class, () -> serializer.deserialize(bytes));
+    }
+}
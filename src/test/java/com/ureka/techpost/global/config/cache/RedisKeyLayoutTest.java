@@ -0,0 +1,39 @@
+package com.ureka.techpost.global.config.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RedisKeyLayoutTest {
+
+    @Test
+    // 같은 게시글의 상세/카운터/좋아요 사용자 키는 접두사와 관계없이 같은 슬롯인지 검증
+    void postTag_colocatesPostKeys() {
+        String tag = RedisKeyLayout.postTag(123L);
+        int slot = RedisKeyLayout.slotOf("posts::" + tag);
+
+        assertEquals(slot, RedisKeyLayout.slotOf("postLikes::" + tag));
+        assertEquals(slot, RedisKeyLayout.slotOf("postComments::" + tag));
+        assertEquals(slot, RedisKeyLayout.slotOf("postLikers::" + tag));
+        assertEquals(slot, RedisKeyLayout.slotOf("lease:counters::" + tag));
+    }
+
+    @Test
+    // 슬롯별 묶음이 입력 순서를 유지하고 모든 위치를 한 번씩 포함하는지 검증
+    void groupBySlot_keepsOrderAndCoversAllIndexes() {
+        String first = "postLikes::" + RedisKeyLayout.postTag(1L);
+        String second = "postLikes::" + RedisKeyLayout.postTag(2L);
+        List<String> keys = List.of(first, second,
+                "postComments::" + RedisKeyLayout.postTag(1L),
+                "postComments::" + RedisKeyLayout.postTag(2L));
+
+        Map<Integer, List<Integer>> groups = RedisKeyLayout.groupBySlot(keys);
+
+        assertEquals(List.of(0, 2), groups.get(RedisKeyLayout.slotOf(first)));
+        assertEquals(List.of(1, 3), groups.get(RedisKeyLayout.slotOf(second)));
+        assertEquals(RedisKeyLayout.slotOf(first), (int) groups.keySet().iterator().next());
+    }
+}
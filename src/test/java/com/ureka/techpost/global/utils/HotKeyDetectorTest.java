@@ -0,0 +1,54 @@
+package com.ureka.techpost.global.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotKeyDetectorTest {
+
+    @Test
+    // 한 창에서 임계값 이상 조회된 키만 핫 키가 되는지 검증
+    void record_marksKeyHotAtThreshold() {
+        AtomicLong clock = new AtomicLong(0);
+        HotKeyDetector<Long> detector = new HotKeyDetector<>(1, 3, 1000, 5000, 100, clock::get);
+
+        assertFalse(detector.record(1L));
+        assertFalse(detector.record(1L));
+        assertTrue(detector.record(1L));
+        assertFalse(detector.record(2L));
+
+        assertEquals(Map.of(1L, 3L), detector.hotKeys());
+    }
+
+    @Test
+    // 창이 바뀌면 조회 수가 다시 시작되고, 유지 시간이 지나면 핫 키에서 빠지는지 검증
+    void hotKey_expiresAfterHold() {
+        AtomicLong clock = new AtomicLong(0);
+        HotKeyDetector<Long> detector = new HotKeyDetector<>(1, 2, 1000, 5000, 100, clock::get);
+
+        detector.record(1L);
+        clock.set(1500);
+        assertFalse(detector.record(1L));
+
+        assertTrue(detector.record(1L));
+        clock.set(1500 + 4999);
+        assertTrue(detector.isHot(1L));
+
+        clock.set(1500 + 5000);
+        assertFalse(detector.isHot(1L));
+        assertTrue(detector.hotKeys().isEmpty());
+    }
+
+    @Test
+    // 추적 키 수 상한을 넘는 새 키는 기록하지 않는지 검증
+    void record_ignoresNewKeysBeyondMaxTracked() {
+        AtomicLong clock = new AtomicLong(0);
+        HotKeyDetector<Long> detector = new HotKeyDetector<>(1, 1, 1000, 5000, 1, clock::get);
+
+        assertTrue(detector.record(1L));
+        assertFalse(detector.record(2L));
+    }
+}
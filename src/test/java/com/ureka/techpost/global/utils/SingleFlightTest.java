@@ -0,0 +1,74 @@
+package com.ureka.techpost.global.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    @Test
+    // 같은 키로 동시에 들어온 요청은 한 번만 실행되고 같은 결과를 받는지 검증
+    void execute_coalescesConcurrentCalls() throws Exception {
+        var singleFlight = new SingleFlight<String, Integer>();
+        var calls = new AtomicInteger();
+        var started = new CountDownLatch(1);
+        var release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            results.add(executor.submit(() -> singleFlight.execute("post:1", () -> {
+                calls.incrementAndGet();
+                started.countDown();
+                await(release);
+                return 42;
+            })));
+            started.await();
+
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> singleFlight.execute("post:1", calls::incrementAndGet)));
+            }
+            // 나머지 요청이 대기열에 들어갈 시간을 준 뒤 첫 요청 완료
+            Thread.sleep(100);
+            release.countDown();
+
+            for (Future<Integer> result : results) {
+                assertEquals(42, (int) result.get(5, TimeUnit.SECONDS));
+            }
+            // 기대: 실제 실행은 1번
+            assertEquals(1, calls.get());
+            assertEquals(0, singleFlight.inFlightCount());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    // 실패한 작업은 예외를 전달하고, 이후 같은 키 요청은 새로 실행되는지 검증
+    void execute_propagatesFailureAndRetries() {
+        var singleFlight = new SingleFlight<String, Integer>();
+
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("post:1", () -> {
+            throw new IllegalStateException("db down");
+        }));
+
+        assertEquals(7, (int) singleFlight.execute("post:1", () -> 7));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}